@@ -6,6 +6,7 @@
 package me.filoghost.fcommons;
 
 import me.filoghost.fcommons.collection.EnumLookupRegistry;
+import me.filoghost.fcommons.collection.ImmutableEnumLookupRegistry;
 import org.bukkit.Material;
 import org.jetbrains.annotations.Nullable;
 
@@ -15,14 +16,14 @@ import java.util.Set;
 public final class MaterialsHelper {
 
     // LookupRegistry of materials by numerical ID (before 1.13), name and aliases
-    private static final EnumLookupRegistry<Material> MATERIALS_REGISTRY = initMaterialsRegistry();
+    private static final ImmutableEnumLookupRegistry<Material> MATERIALS_REGISTRY = initMaterialsRegistry();
 
     // Materials that are considered air (with 1.13+ compatibility)
     private static final Set<Material> AIR_MATERIALS = getExistingMaterials("AIR", "CAVE_AIR", "VOID_AIR");
 
 
     @SuppressWarnings("deprecation")
-    private static EnumLookupRegistry<Material> initMaterialsRegistry() {
+    private static ImmutableEnumLookupRegistry<Material> initMaterialsRegistry() {
         EnumLookupRegistry<Material> materialsRegistry = EnumLookupRegistry.fromEnumValues(Material.class);
 
         // Add numerical IDs in legacy versions
@@ -85,7 +86,7 @@ public final class MaterialsHelper {
         materialsRegistry.putEnumIfExisting("command block", "COMMAND");
         materialsRegistry.putEnumIfExisting("dye", "INK_SACK");
 
-        return materialsRegistry;
+        return ImmutableEnumLookupRegistry.copyOf(materialsRegistry);
     }
 
     public static @Nullable Material matchMaterial(String materialName) {
@@ -0,0 +1,561 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.collection;
+
+import me.filoghost.fcommons.Preconditions;
+import me.filoghost.fcommons.Strings;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Case insensitive map with open addressing, which looks up string keys directly without creating a
+ * {@link CaseInsensitiveString} for each call. Keys match with the same rules of {@link CaseInsensitiveString}: ASCII
+ * keys are compared one character at a time, while keys with other characters are converted to upper case, which
+ * allocates (for example, "straße" matches "STRASSE"). The map is not thread safe.
+ */
+public class CaseInsensitiveOpenHashMap<V> extends AbstractMap<CaseInsensitiveString, V> implements CaseInsensitiveMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final CaseInsensitiveString DELETED = new CaseInsensitiveString(""); // Marks removed slots
+
+    private CaseInsensitiveString[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int size;
+    private int usedSlots; // Including the removed ones
+    private int modCount;
+    private Set<Entry<CaseInsensitiveString, V>> entrySet;
+
+    public CaseInsensitiveOpenHashMap() {
+        this(DEFAULT_CAPACITY / 2);
+    }
+
+    public CaseInsensitiveOpenHashMap(int expectedSize) {
+        Preconditions.checkArgument(expectedSize >= 0, "expectedSize cannot be negative");
+        initSlots(getCapacity(expectedSize));
+    }
+
+    public CaseInsensitiveOpenHashMap(@NotNull Map<? extends CaseInsensitiveString, ? extends V> map) {
+        this(map.size());
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public V get(@NotNull String key) {
+        Preconditions.notNull(key, "key");
+        int index = findIndex(key, hash(key));
+        return index >= 0 ? getValue(index) : null;
+    }
+
+    @Override
+    public V get(Object key) {
+        if (!(key instanceof CaseInsensitiveString)) {
+            return null;
+        }
+        return get(((CaseInsensitiveString) key).getOriginalString());
+    }
+
+    @Override
+    public V getOrDefault(@NotNull String key, V defaultValue) {
+        Preconditions.notNull(key, "key");
+        int index = findIndex(key, hash(key));
+        return index >= 0 ? getValue(index) : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(@NotNull String key) {
+        Preconditions.notNull(key, "key");
+        return findIndex(key, hash(key)) >= 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (!(key instanceof CaseInsensitiveString)) {
+            return false;
+        }
+        return containsKey(((CaseInsensitiveString) key).getOriginalString());
+    }
+
+    @Override
+    public V put(@NotNull String key, V value) {
+        Preconditions.notNull(key, "key");
+        return put(key, null, value, false);
+    }
+
+    @Override
+    public V put(@NotNull CaseInsensitiveString key, V value) {
+        Preconditions.notNull(key, "key");
+        return put(key.getOriginalString(), key, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(@NotNull String key, V value) {
+        Preconditions.notNull(key, "key");
+        return put(key, null, value, true);
+    }
+
+    @Override
+    public V putIfAbsent(@NotNull CaseInsensitiveString key, V value) {
+        Preconditions.notNull(key, "key");
+        return put(key.getOriginalString(), key, value, true);
+    }
+
+    @Override
+    public V remove(@NotNull String key) {
+        Preconditions.notNull(key, "key");
+        int index = findIndex(key, hash(key));
+        if (index < 0) {
+            return null;
+        }
+        V oldValue = getValue(index);
+        removeAt(index);
+        return oldValue;
+    }
+
+    @Override
+    public boolean remove(@NotNull String key, V value) {
+        Preconditions.notNull(key, "key");
+        int index = findIndex(key, hash(key));
+        if (index < 0 || !Objects.equals(getValue(index), value)) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    @Override
+    public V computeIfAbsent(@NotNull String key, Supplier<V> valueSupplier) {
+        V oldValue = get(key);
+        if (oldValue != null) {
+            return oldValue;
+        }
+
+        V newValue = valueSupplier.get();
+        if (newValue != null) {
+            put(key, newValue);
+        }
+        return newValue;
+    }
+
+    @Override
+    public V compute(@NotNull String key, UnaryOperator<V> remappingFunction) {
+        V newValue = remappingFunction.apply(get(key));
+        if (newValue != null) {
+            put(key, newValue);
+        } else {
+            remove(key);
+        }
+        return newValue;
+    }
+
+    @Override
+    public V computeIfPresent(@NotNull String key, UnaryOperator<V> remappingFunction) {
+        V oldValue = get(key);
+        if (oldValue == null) {
+            return null;
+        }
+
+        V newValue = remappingFunction.apply(oldValue);
+        if (newValue != null) {
+            put(key, newValue);
+        } else {
+            remove(key);
+        }
+        return newValue;
+    }
+
+    @Override
+    public V merge(@NotNull String key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Preconditions.notNull(value, "value");
+        V oldValue = get(key);
+        V newValue = oldValue != null ? remappingFunction.apply(oldValue, value) : value;
+        if (newValue != null) {
+            put(key, newValue);
+        } else {
+            remove(key);
+        }
+        return newValue;
+    }
+
+    @Override
+    public boolean removeIf(@NotNull String key, @NotNull Predicate<V> filter) {
+        Preconditions.notNull(key, "key");
+        int index = findIndex(key, hash(key));
+        if (index < 0 || getValue(index) == null || !filter.test(getValue(index))) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!(key instanceof CaseInsensitiveString)) {
+            return null;
+        }
+        return remove(((CaseInsensitiveString) key).getOriginalString());
+    }
+
+    @Override
+    public void clear() {
+        if (usedSlots > 0) {
+            initSlots(keys.length);
+            modCount++;
+        }
+    }
+
+    @Override
+    public Set<Entry<CaseInsensitiveString, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /*
+     * Returns the value of a key that was inserted without any of the ignored characters, skipping them in the given
+     * key while hashing and comparing, instead of creating a stripped copy.
+     */
+    V getIgnoringChars(@NotNull String key, char[] ignoredChars) {
+        int hash = hash(key, ignoredChars);
+        int mask = keys.length - 1;
+        int index = spread(hash) & mask;
+
+        CaseInsensitiveString slotKey;
+        while ((slotKey = keys[index]) != null) {
+            if (slotKey != DELETED && hashes[index] == hash
+                    && equalsIgnoringChars(slotKey.getOriginalString(), key, ignoredChars)) {
+                return getValue(index);
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /*
+     * Same as the hash code of a CaseInsensitiveString, computed without allocations for ASCII strings.
+     */
+    static int hash(String string) {
+        int hash = 0;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c >= 128) {
+                return CaseInsensitiveString.toUpperCase(string).hashCode();
+            }
+            hash = 31 * hash + CaseInsensitiveString.toUpperCaseASCII(c);
+        }
+        return hash;
+    }
+
+    /*
+     * Same as hash(String) on the given string without the ignored characters.
+     */
+    static int hash(String string, char[] ignoredChars) {
+        int hash = 0;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c >= 128) {
+                return hash(Strings.stripChars(string, ignoredChars));
+            }
+            if (!contains(ignoredChars, c)) {
+                hash = 31 * hash + CaseInsensitiveString.toUpperCaseASCII(c);
+            }
+        }
+        return hash;
+    }
+
+    /*
+     * Same as comparing two CaseInsensitiveString instances, without allocations for ASCII strings.
+     */
+    static boolean equalsIgnoreCase(String string1, String string2) {
+        int length = Math.min(string1.length(), string2.length());
+        for (int i = 0; i < length; i++) {
+            char c1 = string1.charAt(i);
+            char c2 = string2.charAt(i);
+            if (c1 >= 128 || c2 >= 128) {
+                // Non ASCII characters may change length when converted to upper case
+                return CaseInsensitiveString.toUpperCase(string1).equals(CaseInsensitiveString.toUpperCase(string2));
+            }
+            if (c1 != c2 && CaseInsensitiveString.toUpperCaseASCII(c1) != CaseInsensitiveString.toUpperCaseASCII(c2)) {
+                return false;
+            }
+        }
+        // The common part is ASCII, the remaining characters cannot be converted to an empty string
+        return string1.length() == string2.length();
+    }
+
+    /*
+     * Same as equalsIgnoreCase(String, String) on the second string without the ignored characters.
+     */
+    private static boolean equalsIgnoringChars(String strippedString, String string, char[] ignoredChars) {
+        int strippedIndex = 0;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (contains(ignoredChars, c)) {
+                continue;
+            }
+            if (strippedIndex >= strippedString.length()) {
+                return false;
+            }
+            char strippedChar = strippedString.charAt(strippedIndex++);
+            if (c >= 128 || strippedChar >= 128) {
+                return equalsIgnoreCase(strippedString, Strings.stripChars(string, ignoredChars));
+            }
+            if (c != strippedChar
+                    && CaseInsensitiveString.toUpperCaseASCII(c) != CaseInsensitiveString.toUpperCaseASCII(strippedChar)) {
+                return false;
+            }
+        }
+        return strippedIndex == strippedString.length();
+    }
+
+    static boolean contains(char[] array, char c) {
+        for (char element : array) {
+            if (element == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private V put(String key, CaseInsensitiveString caseInsensitiveKey, V value, boolean onlyIfAbsent) {
+        int hash = hash(key);
+        int mask = keys.length - 1;
+        int index = spread(hash) & mask;
+        int deletedIndex = -1;
+
+        CaseInsensitiveString slotKey;
+        while ((slotKey = keys[index]) != null) {
+            if (slotKey == DELETED) {
+                if (deletedIndex < 0) {
+                    deletedIndex = index;
+                }
+            } else if (hashes[index] == hash && equalsIgnoreCase(slotKey.getOriginalString(), key)) {
+                V oldValue = getValue(index);
+                if (!onlyIfAbsent || oldValue == null) {
+                    values[index] = value; // The original key is kept
+                }
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+
+        if (caseInsensitiveKey == null) {
+            caseInsensitiveKey = new CaseInsensitiveString(key);
+        }
+
+        if (deletedIndex >= 0) {
+            index = deletedIndex; // Reuse the removed slot, the number of used slots doesn't change
+        } else if (isFull(usedSlots + 1)) {
+            rehash(isFull(size + 1) ? keys.length * 2 : keys.length); // Grow only if removed slots are not enough
+            index = findFreeIndex(hash);
+            usedSlots++;
+        } else {
+            usedSlots++;
+        }
+
+        keys[index] = caseInsensitiveKey;
+        values[index] = value;
+        hashes[index] = hash;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    private int findIndex(String key, int hash) {
+        int mask = keys.length - 1;
+        int index = spread(hash) & mask;
+
+        CaseInsensitiveString slotKey;
+        while ((slotKey = keys[index]) != null) {
+            if (slotKey != DELETED && hashes[index] == hash && equalsIgnoreCase(slotKey.getOriginalString(), key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int findFreeIndex(int hash) {
+        int mask = keys.length - 1;
+        int index = spread(hash) & mask;
+        while (keys[index] != null) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /*
+     * Removed slots are marked instead of emptied, so that the following keys in the same probe sequence can still
+     * be found and iterators are not affected.
+     */
+    private void removeAt(int index) {
+        keys[index] = DELETED;
+        values[index] = null;
+        size--;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V getValue(int index) {
+        return (V) values[index];
+    }
+
+    private boolean isFull(int slots) {
+        return keys.length < MAX_CAPACITY && slots > keys.length / 2; // Keep the load factor at most 0.5
+    }
+
+    private void rehash(int newCapacity) {
+        CaseInsensitiveString[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        initSlots(newCapacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            CaseInsensitiveString key = oldKeys[i];
+            if (key != null && key != DELETED) {
+                int index = findFreeIndex(oldHashes[i]);
+                keys[index] = key;
+                values[index] = oldValues[i];
+                hashes[index] = oldHashes[i];
+                size++;
+                usedSlots++;
+            }
+        }
+    }
+
+    private void initSlots(int capacity) {
+        keys = new CaseInsensitiveString[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        size = 0;
+        usedSlots = 0;
+    }
+
+    private static int getCapacity(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY / 2;
+        while (capacity < MAX_CAPACITY && capacity < expectedSize * 2) {
+            capacity *= 2;
+        }
+        return Math.max(capacity, 2);
+    }
+
+    static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+
+    private class EntrySet extends AbstractSet<Entry<CaseInsensitiveString, V>> {
+
+        @Override
+        public Iterator<Entry<CaseInsensitiveString, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveOpenHashMap.this.clear();
+        }
+
+    }
+
+
+    private class EntryIterator implements Iterator<Entry<CaseInsensitiveString, V>> {
+
+        private final CaseInsensitiveString[] iteratedKeys = keys;
+        private int nextIndex;
+        private int lastIndex = -1;
+        private int expectedModCount = modCount;
+
+        private EntryIterator() {
+            findNext();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < iteratedKeys.length;
+        }
+
+        @Override
+        public Entry<CaseInsensitiveString, V> next() {
+            checkModCount();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastIndex = nextIndex;
+            nextIndex++;
+            findNext();
+            return new SlotEntry(lastIndex);
+        }
+
+        @Override
+        public void remove() {
+            checkModCount();
+            Preconditions.checkState(lastIndex >= 0, "next() must be called before remove()");
+            removeAt(lastIndex);
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        private void findNext() {
+            while (nextIndex < iteratedKeys.length
+                    && (iteratedKeys[nextIndex] == null || iteratedKeys[nextIndex] == DELETED)) {
+                nextIndex++;
+            }
+        }
+
+        private void checkModCount() {
+            if (modCount != expectedModCount || keys != iteratedKeys) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+    }
+
+
+    private class SlotEntry extends SimpleEntry<CaseInsensitiveString, V> {
+
+        private final int index;
+
+        private SlotEntry(int index) {
+            super(keys[index], CaseInsensitiveOpenHashMap.this.getValue(index));
+            this.index = index;
+        }
+
+        @Override
+        public V setValue(V value) {
+            if (keys[index] == getKey()) { // Also true if moved to the same index of a new table
+                values[index] = value; // Write through if the entry is still in the map
+            }
+            return super.setValue(value);
+        }
+
+    }
+
+}
@@ -11,17 +11,17 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Locale;
 
 /**
- * Case insensitive string for use inside collections.
+ * Case insensitive string for use inside collections. The upper case string and the hash code are computed lazily.
  */
 public final class CaseInsensitiveString {
 
     private final String originalString;
-    private final String uppercaseString;
+    private String uppercaseString; // Same instance as the original string if already upper case
+    private int hash;
 
     public CaseInsensitiveString(@NotNull String string) {
         Preconditions.notNull(string, "string");
         this.originalString = string;
-        this.uppercaseString = string.toUpperCase(Locale.ROOT);
     }
 
     public String getOriginalString() {
@@ -29,7 +29,23 @@ public final class CaseInsensitiveString {
     }
 
     public boolean equalsIgnoreCase(String other) {
-        return other != null && other.toUpperCase(Locale.ROOT).equals(this.uppercaseString);
+        if (other == null) {
+            return false;
+        }
+
+        String uppercaseString = getUppercaseString();
+        int length = other.length();
+        for (int i = 0; i < length; i++) {
+            char c = other.charAt(i);
+            if (c >= 128) {
+                // Non ASCII characters may change length when converted to upper case
+                return other.toUpperCase(Locale.ROOT).equals(uppercaseString);
+            }
+            if (i >= uppercaseString.length() || toUpperCaseASCII(c) != uppercaseString.charAt(i)) {
+                return false;
+            }
+        }
+        return length == uppercaseString.length();
     }
 
     @Override
@@ -39,7 +55,13 @@ public final class CaseInsensitiveString {
 
     @Override
     public int hashCode() {
-        return uppercaseString.hashCode();
+        // Racy single-check: concurrent threads compute the same value
+        int hash = this.hash;
+        if (hash == 0) {
+            hash = getUppercaseString().hashCode();
+            this.hash = hash;
+        }
+        return hash;
     }
 
     @Override
@@ -51,7 +73,50 @@ public final class CaseInsensitiveString {
             return false;
         }
 
-        return ((CaseInsensitiveString) other).uppercaseString.equals(this.uppercaseString);
+        CaseInsensitiveString otherString = (CaseInsensitiveString) other;
+        return otherString.hashCode() == this.hashCode()
+                && otherString.getUppercaseString().equals(this.getUppercaseString());
+    }
+
+    private String getUppercaseString() {
+        String uppercaseString = this.uppercaseString;
+        if (uppercaseString == null) {
+            uppercaseString = toUpperCase(originalString);
+            this.uppercaseString = uppercaseString; // Strings are immutable, safe to publish without synchronization
+        }
+        return uppercaseString;
+    }
+
+    /**
+     * Returns the string converted to upper case, as compared by this class and by {@link CaseInsensitiveOpenHashMap}.
+     * Same result as toUpperCase(Locale.ROOT), without the locale handling for ASCII strings.
+     */
+    public static @NotNull String toUpperCase(@NotNull String string) {
+        int length = string.length();
+        int firstLowercaseIndex = -1;
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+            if (c >= 128) {
+                return string.toUpperCase(Locale.ROOT); // Also returns the same instance if unchanged
+            }
+            if (firstLowercaseIndex < 0 && c >= 'a' && c <= 'z') {
+                firstLowercaseIndex = i;
+            }
+        }
+
+        if (firstLowercaseIndex < 0) {
+            return string;
+        }
+
+        char[] chars = string.toCharArray();
+        for (int i = firstLowercaseIndex; i < length; i++) {
+            chars[i] = toUpperCaseASCII(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    static char toUpperCaseASCII(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
     }
 
 }
@@ -21,6 +21,10 @@ public class EnumLookupRegistry<E extends Enum<E>> extends LookupRegistry<E> {
         return registry;
     }
 
+    Class<E> getEnumType() {
+        return enumType;
+    }
+
     public void putEnumIfExisting(String key, String enumName) {
         try {
             E value = Enum.valueOf(enumType, enumName);
@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.collection;
+
+import me.filoghost.fcommons.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable registry of enum values by name, with the same matching rules of {@link LookupRegistry}. The keys are
+ * stored in a single array of characters with a compact open addressing table, and lookups are safe from multiple
+ * threads without synchronization.
+ */
+public final class ImmutableEnumLookupRegistry<E extends Enum<E>> implements ReadOnlyLookupRegistry<E> {
+
+    private final E[] enumConstants;
+    private final char[] keyChars; // The keys without the ignored characters, in upper case
+    private final int[] keyOffsets; // The key at index i is from keyOffsets[i] to keyOffsets[i + 1]
+    private final int[] keyHashes;
+    private final int[] valueOrdinals;
+    private final int[] table; // Indexes of the keys plus one, zero is an empty slot
+    private final int size;
+
+    private volatile LookupIndex<E> index; // Created by the first search
+
+    /*
+     * The keys must not contain the ignored characters. If a key is repeated ignoring case, the last value is used.
+     */
+    private ImmutableEnumLookupRegistry(Class<E> enumType, List<String> keys, List<E> values) {
+        this.enumConstants = enumType.getEnumConstants();
+
+        String[] uppercaseKeys = new String[keys.size()];
+        int keyCharsCount = 0;
+        for (int i = 0; i < uppercaseKeys.length; i++) {
+            uppercaseKeys[i] = CaseInsensitiveString.toUpperCase(keys.get(i));
+            keyCharsCount += uppercaseKeys[i].length();
+        }
+
+        this.keyChars = new char[keyCharsCount];
+        this.keyOffsets = new int[uppercaseKeys.length + 1];
+        this.keyHashes = new int[uppercaseKeys.length];
+        this.valueOrdinals = new int[uppercaseKeys.length];
+        this.table = new int[getTableCapacity(uppercaseKeys.length)];
+
+        int mask = table.length - 1;
+        int size = 0;
+        for (int i = 0; i < uppercaseKeys.length; i++) {
+            String key = uppercaseKeys[i];
+            int hash = key.hashCode();
+            int slot = CaseInsensitiveOpenHashMap.spread(hash) & mask;
+            while (table[slot] != 0 && !(keyHashes[table[slot] - 1] == hash && keyEquals(table[slot] - 1, key))) {
+                slot = (slot + 1) & mask;
+            }
+
+            if (table[slot] != 0) {
+                valueOrdinals[table[slot] - 1] = values.get(i).ordinal(); // Repeated key
+                continue;
+            }
+
+            key.getChars(0, key.length(), keyChars, keyOffsets[size]);
+            keyOffsets[size + 1] = keyOffsets[size] + key.length();
+            keyHashes[size] = hash;
+            valueOrdinals[size] = values.get(i).ordinal();
+            table[slot] = size + 1;
+            size++;
+        }
+        this.size = size;
+    }
+
+    public static <E extends Enum<E>> ImmutableEnumLookupRegistry<E> copyOf(@NotNull EnumLookupRegistry<E> registry) {
+        Preconditions.notNull(registry, "registry");
+        List<String> keys = new ArrayList<>();
+        List<E> values = new ArrayList<>();
+        registry.forEachEntry((key, value) -> {
+            keys.add(key);
+            values.add(value);
+        });
+        return new ImmutableEnumLookupRegistry<>(registry.getEnumType(), keys, values);
+    }
+
+    /**
+     * Returns a registry of the constants of the given enum by name, with the same content of
+     * {@link EnumLookupRegistry#fromEnumValues(Class)} but without creating a mutable registry first.
+     */
+    public static <E extends Enum<E>> ImmutableEnumLookupRegistry<E> fromEnumValues(@NotNull Class<E> enumClass) {
+        Preconditions.notNull(enumClass, "enumClass");
+        E[] enumConstants = enumClass.getEnumConstants();
+        String[] keys = new String[enumConstants.length];
+        for (int i = 0; i < enumConstants.length; i++) {
+            keys[i] = LookupRegistry.removeIgnoredChars(enumConstants[i].name());
+        }
+        return new ImmutableEnumLookupRegistry<>(enumClass, Arrays.asList(keys), Arrays.asList(enumConstants));
+    }
+
+    @Override
+    public @Nullable E lookup(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        int hash = CaseInsensitiveOpenHashMap.hash(key, LookupRegistry.KEY_IGNORE_CHARS);
+        int mask = table.length - 1;
+        int slot = CaseInsensitiveOpenHashMap.spread(hash) & mask;
+        int tableEntry;
+        while ((tableEntry = table[slot]) != 0) {
+            int keyIndex = tableEntry - 1;
+            if (keyHashes[keyIndex] == hash && keyMatches(keyIndex, key)) {
+                return enumConstants[valueOrdinals[keyIndex]];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    @Override
+    public @NotNull List<E> findByPrefix(@NotNull String prefix) {
+        Preconditions.notNull(prefix, "prefix");
+        return getIndex().findByPrefix(LookupRegistry.normalizeKey(prefix));
+    }
+
+    @Override
+    public @NotNull List<E> findSimilar(@NotNull String key, int maxDistance) {
+        Preconditions.notNull(key, "key");
+        Preconditions.checkArgument(maxDistance >= 0, "maxDistance cannot be negative");
+        return getIndex().findSimilar(LookupRegistry.normalizeKey(key), maxDistance);
+    }
+
+    private LookupIndex<E> getIndex() {
+        LookupIndex<E> index = this.index;
+        if (index == null) {
+            String[] keys = new String[size];
+            Object[] values = new Object[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = getKey(i);
+                values[i] = enumConstants[valueOrdinals[i]];
+            }
+            index = new LookupIndex<>(keys, values);
+            this.index = index;
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                values.append(", ");
+            }
+            values.append(getKey(i)).append('=').append(enumConstants[valueOrdinals[i]]);
+        }
+        return "ImmutableEnumLookupRegistry [values={" + values + "}]";
+    }
+
+    private boolean keyMatches(int keyIndex, String key) {
+        int keyCharIndex = keyOffsets[keyIndex];
+        int keyEnd = keyOffsets[keyIndex + 1];
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c >= 128) {
+                // Non ASCII characters may change length when converted to upper case
+                return keyEquals(keyIndex, LookupRegistry.normalizeKey(key));
+            }
+            if (CaseInsensitiveOpenHashMap.contains(LookupRegistry.KEY_IGNORE_CHARS, c)) {
+                continue;
+            }
+            if (keyCharIndex >= keyEnd || CaseInsensitiveString.toUpperCaseASCII(c) != keyChars[keyCharIndex++]) {
+                return false;
+            }
+        }
+        return keyCharIndex == keyEnd;
+    }
+
+    private boolean keyEquals(int keyIndex, String uppercaseKey) {
+        int keyOffset = keyOffsets[keyIndex];
+        if (keyOffsets[keyIndex + 1] - keyOffset != uppercaseKey.length()) {
+            return false;
+        }
+        for (int i = 0; i < uppercaseKey.length(); i++) {
+            if (keyChars[keyOffset + i] != uppercaseKey.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String getKey(int keyIndex) {
+        return new String(keyChars, keyOffsets[keyIndex], keyOffsets[keyIndex + 1] - keyOffsets[keyIndex]);
+    }
+
+    private static int getTableCapacity(int keysCount) {
+        int capacity = 2;
+        while (capacity < keysCount * 2) { // Load factor at most 0.5
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+}
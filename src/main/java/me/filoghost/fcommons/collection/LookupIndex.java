@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.collection;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Read-only index of the keys of a LookupRegistry, for prefix and approximate searches. The keys are converted to
+ * upper case and must not contain the ignored characters. Prefix searches use a binary search on the sorted keys,
+ * approximate searches use a BK-tree with the Levenshtein distance.
+ */
+final class LookupIndex<V> {
+
+    private final String[] keys; // Sorted
+    private final Object[] values;
+    private final Node root;
+    private final int maxKeyLength;
+
+    LookupIndex(String[] unsortedKeys, Object[] unsortedValues) {
+        List<Map.Entry<String, Object>> entries = new ArrayList<>(unsortedKeys.length);
+        for (int i = 0; i < unsortedKeys.length; i++) {
+            entries.add(new SimpleImmutableEntry<>(CaseInsensitiveString.toUpperCase(unsortedKeys[i]), unsortedValues[i]));
+        }
+        entries.sort(Map.Entry.comparingByKey());
+
+        this.keys = new String[entries.size()];
+        this.values = new Object[entries.size()];
+        int maxKeyLength = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = entries.get(i).getKey();
+            values[i] = entries.get(i).getValue();
+            maxKeyLength = Math.max(maxKeyLength, keys[i].length());
+        }
+        this.maxKeyLength = maxKeyLength;
+
+        Node root = null;
+        int[][] distanceRows = createDistanceRows();
+        for (int i = 0; i < keys.length; i++) {
+            if (root == null) {
+                root = new Node(i);
+            } else {
+                root.add(i, keys, distanceRows);
+            }
+        }
+        this.root = root;
+    }
+
+    List<V> findByPrefix(String prefix) {
+        int fromIndex = findFirstIndex(prefix);
+        Set<V> result = new LinkedHashSet<>();
+        for (int i = fromIndex; i < keys.length && keys[i].startsWith(prefix); i++) {
+            result.add(getValue(i));
+        }
+        return new ArrayList<>(result);
+    }
+
+    List<V> findSimilar(String key, int maxDistance) {
+        if (root == null || key.length() > maxKeyLength + maxDistance) {
+            return new ArrayList<>();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        int[][] distanceRows = createDistanceRows();
+        List<Node> nodesToVisit = new ArrayList<>();
+        nodesToVisit.add(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.remove(nodesToVisit.size() - 1);
+            int distance = distance(key, keys[node.keyIndex], distanceRows);
+            if (distance <= maxDistance) {
+                matches.add(new Match(node.keyIndex, distance));
+            }
+
+            // By the triangle inequality, only children at a distance in [distance - max, distance + max] can match
+            int fromDistance = Math.max(0, distance - maxDistance);
+            int toDistance = Math.min(node.children.length - 1, distance + maxDistance);
+            for (int childDistance = fromDistance; childDistance <= toDistance; childDistance++) {
+                if (node.children[childDistance] != null) {
+                    nodesToVisit.add(node.children[childDistance]);
+                }
+            }
+        }
+
+        matches.sort(Comparator.comparingInt((Match match) -> match.distance).thenComparingInt(match -> match.keyIndex));
+        Set<V> result = new LinkedHashSet<>();
+        for (Match match : matches) {
+            result.add(getValue(match.keyIndex));
+        }
+        return new ArrayList<>(result);
+    }
+
+    private int[][] createDistanceRows() {
+        return new int[2][maxKeyLength + 1];
+    }
+
+    /*
+     * Levenshtein distance, using two rows of the matrix. The rows must be longer than the second string.
+     */
+    private static int distance(String string1, String string2, int[][] rows) {
+        int[] previousRow = rows[0];
+        int[] currentRow = rows[1];
+        for (int j = 0; j <= string2.length(); j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= string1.length(); i++) {
+            currentRow[0] = i;
+            char c1 = string1.charAt(i - 1);
+            for (int j = 1; j <= string2.length(); j++) {
+                int substitutionCost = c1 == string2.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(
+                        Math.min(currentRow[j - 1] + 1, previousRow[j] + 1),
+                        previousRow[j - 1] + substitutionCost);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[string2.length()];
+    }
+
+    private int findFirstIndex(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            return -(index + 1);
+        }
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V getValue(int index) {
+        return (V) values[index];
+    }
+
+
+    private static class Node {
+
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final int keyIndex;
+        private Node[] children; // Indexed by the distance from this node
+
+        private Node(int keyIndex) {
+            this.keyIndex = keyIndex;
+            this.children = NO_CHILDREN;
+        }
+
+        private void add(int keyIndex, String[] keys, int[][] distanceRows) {
+            Node node = this;
+            while (true) {
+                int distance = distance(keys[keyIndex], keys[node.keyIndex], distanceRows);
+                if (distance >= node.children.length) {
+                    node.children = Arrays.copyOf(node.children, distance + 1);
+                }
+                if (node.children[distance] == null) {
+                    node.children[distance] = new Node(keyIndex);
+                    return;
+                }
+                node = node.children[distance];
+            }
+        }
+
+    }
+
+
+    private static class Match {
+
+        private final int keyIndex;
+        private final int distance;
+
+        private Match(int keyIndex, int distance) {
+            this.keyIndex = keyIndex;
+            this.distance = distance;
+        }
+
+    }
+
+}
@@ -5,18 +5,33 @@
  */
 package me.filoghost.fcommons.collection;
 
+import me.filoghost.fcommons.Preconditions;
 import me.filoghost.fcommons.Strings;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
-public class LookupRegistry<V> {
+/**
+ * Registry of values by name, looked up ignoring case and the characters '-', '_' and ' '. Case is ignored with the
+ * same rules of {@link CaseInsensitiveString}, for example "straße" matches "STRASSE".
+ * <p>
+ * Prefix and similarity searches use an index of all the keys, built by the first search after the registry is
+ * modified. Building it sorts the keys and computes the edit distance of each key from some of the others, which is
+ * much slower than a lookup: registries that are searched should be populated before the first search, and not
+ * modified between searches.
+ */
+public class LookupRegistry<V> implements ReadOnlyLookupRegistry<V> {
 
     // Characters to ignore when searching values by name
-    private static final char[] KEY_IGNORE_CHARS = {'-', '_', ' '};
+    static final char[] KEY_IGNORE_CHARS = {'-', '_', ' '};
 
-    private final CaseInsensitiveMap<V> valuesMap;
+    private final CaseInsensitiveOpenHashMap<V> valuesMap; // Keys without the ignored characters
+    private volatile LookupIndex<V> index; // Created by the first search, cleared when values are added
 
     public static <V> LookupRegistry<V> fromValues(V[] values, Function<V, String> keyExtractor) {
         return fromValues(Arrays.asList(values), keyExtractor);
@@ -29,14 +44,34 @@ public class LookupRegistry<V> {
     }
 
     protected LookupRegistry() {
-        this.valuesMap = new CaseInsensitiveHashMap<>();
+        this.valuesMap = new CaseInsensitiveOpenHashMap<>();
     }
 
+    @Override
     public @Nullable V lookup(String key) {
         if (key == null) {
             return null;
         }
-        return valuesMap.get(removeIgnoredChars(key));
+        return valuesMap.getIgnoringChars(key, KEY_IGNORE_CHARS); // Doesn't allocate a stripped copy of the key
+    }
+
+    /**
+     * {@inheritDoc} Builds the index of the keys if the registry was modified since the last search.
+     */
+    @Override
+    public @NotNull List<V> findByPrefix(@NotNull String prefix) {
+        Preconditions.notNull(prefix, "prefix");
+        return getIndex().findByPrefix(normalizeKey(prefix));
+    }
+
+    /**
+     * {@inheritDoc} Builds the index of the keys if the registry was modified since the last search.
+     */
+    @Override
+    public @NotNull List<V> findSimilar(@NotNull String key, int maxDistance) {
+        Preconditions.notNull(key, "key");
+        Preconditions.checkArgument(maxDistance >= 0, "maxDistance cannot be negative");
+        return getIndex().findSimilar(normalizeKey(key), maxDistance);
     }
 
     protected void putAll(Iterable<V> values, Function<V, String> keyExtractor) {
@@ -47,9 +82,40 @@ public class LookupRegistry<V> {
 
     public void put(String key, V value) {
         valuesMap.put(removeIgnoredChars(key), value);
+        index = null;
+    }
+
+    private LookupIndex<V> getIndex() {
+        LookupIndex<V> index = this.index;
+        if (index == null) {
+            String[] keys = new String[valuesMap.size()];
+            Object[] values = new Object[valuesMap.size()];
+            int i = 0;
+            for (Map.Entry<CaseInsensitiveString, V> entry : valuesMap.entrySet()) {
+                keys[i] = entry.getKey().getOriginalString();
+                values[i] = entry.getValue();
+                i++;
+            }
+            index = new LookupIndex<>(keys, values);
+            this.index = index;
+        }
+        return index;
+    }
+
+    /*
+     * Returns the entries as keys without the ignored characters and values.
+     */
+    void forEachEntry(BiConsumer<String, V> action) {
+        for (Map.Entry<CaseInsensitiveString, V> entry : valuesMap.entrySet()) {
+            action.accept(entry.getKey().getOriginalString(), entry.getValue());
+        }
+    }
+
+    static String normalizeKey(String key) {
+        return CaseInsensitiveString.toUpperCase(removeIgnoredChars(key));
     }
 
-    private String removeIgnoredChars(String valueName) {
+    static String removeIgnoredChars(String valueName) {
         return Strings.stripChars(valueName, KEY_IGNORE_CHARS);
     }
 
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.collection;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Read operations of a registry of values by name, see {@link LookupRegistry} for the matching rules.
+ */
+public interface ReadOnlyLookupRegistry<V> {
+
+    @Nullable V lookup(String key);
+
+    /**
+     * Returns the values with a key that starts with the given prefix, ignoring case and the ignored characters, in
+     * alphabetical order of the keys.
+     */
+    @NotNull List<V> findByPrefix(@NotNull String prefix);
+
+    /**
+     * Returns the values with a key within the given edit distance from the given key, ignoring case and the ignored
+     * characters, from the closest. Can be used to suggest values when the lookup fails.
+     */
+    @NotNull List<V> findSimilar(@NotNull String key, int maxDistance);
+
+}
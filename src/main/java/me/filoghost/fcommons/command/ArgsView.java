@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command;
+
+import me.filoghost.fcommons.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Read-only window over the arguments of a command, starting from an offset. Sub-commands receive a view of the same
+ * array with a greater offset, instead of a copy.
+ */
+public final class ArgsView {
+
+    private final String[] array;
+    private final int offset;
+
+    public ArgsView(@NotNull String[] array, int offset) {
+        Preconditions.notNull(array, "array");
+        Preconditions.checkArgument(offset >= 0 && offset <= array.length, "offset out of bounds");
+        this.array = array;
+        this.offset = offset;
+    }
+
+    public static ArgsView of(@NotNull String[] array) {
+        return new ArgsView(array, 0);
+    }
+
+    public int size() {
+        return array.length - offset;
+    }
+
+    public boolean isEmpty() {
+        return offset == array.length;
+    }
+
+    public String get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+        }
+        return array[offset + index];
+    }
+
+    /**
+     * Returns a view of the arguments from the given index, sharing the same array.
+     */
+    public ArgsView subView(int fromIndex) {
+        Preconditions.checkArgument(fromIndex >= 0 && fromIndex <= size(), "fromIndex out of bounds");
+        return new ArgsView(array, offset + fromIndex);
+    }
+
+    public String join(int fromIndex) {
+        Preconditions.checkArgument(fromIndex >= 0 && fromIndex <= size(), "fromIndex out of bounds");
+        int startIndex = offset + fromIndex;
+        StringBuilder result = new StringBuilder();
+        for (int i = startIndex; i < array.length; i++) {
+            if (i > startIndex) {
+                result.append(' ');
+            }
+            result.append(array[i]);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Returns the arguments as an array, which is the underlying array itself if the offset is zero.
+     */
+    public String[] toArray() {
+        if (offset == 0) {
+            return array;
+        }
+        return Arrays.copyOfRange(array, offset, array.length);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
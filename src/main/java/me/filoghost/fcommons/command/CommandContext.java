@@ -6,17 +6,41 @@
 package me.filoghost.fcommons.command;
 
 import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.Nullable;
 
 public class CommandContext {
 
     private final CommandSender sender;
     private final String rootLabel;
-    private final String[] args;
+    private final ArgsView argsView;
+    private final RootCommandExecution rootExecution; // Null if not measured
+    private String[] args; // Created from the view when first requested
 
     public CommandContext(CommandSender sender, String rootLabel, String[] args) {
+        this(sender, rootLabel, args, null);
+    }
+
+    CommandContext(CommandSender sender, String rootLabel, String[] args, @Nullable RootCommandExecution rootExecution) {
+        this(sender, rootLabel, ArgsView.of(args), rootExecution);
+        this.args = args;
+    }
+
+    public CommandContext(CommandSender sender, String rootLabel, ArgsView argsView) {
+        this(sender, rootLabel, argsView, null);
+    }
+
+    /**
+     * Creates a context for the same execution of the parent context, with different arguments.
+     */
+    protected CommandContext(CommandContext parentContext, ArgsView argsView) {
+        this(parentContext.sender, parentContext.rootLabel, argsView, parentContext.rootExecution);
+    }
+
+    private CommandContext(CommandSender sender, String rootLabel, ArgsView argsView, @Nullable RootCommandExecution rootExecution) {
         this.sender = sender;
         this.rootLabel = rootLabel;
-        this.args = args;
+        this.argsView = argsView;
+        this.rootExecution = rootExecution;
     }
 
     public CommandSender getSender() {
@@ -27,8 +51,30 @@ public class CommandContext {
         return rootLabel;
     }
 
+    /**
+     * Returns the labels used from the root command to this context, separated by spaces.
+     */
+    public String getCommandPath() {
+        return rootLabel;
+    }
+
+    public ArgsView getArgsView() {
+        return argsView;
+    }
+
+    /**
+     * Returns the arguments as an array, which may be copied from the view when first requested. Prefer
+     * {@link #getArgsView()} to avoid the copy.
+     */
     public String[] getArgs() {
+        if (args == null) {
+            args = argsView.toArray();
+        }
         return args;
     }
 
+    @Nullable RootCommandExecution getRootExecution() {
+        return rootExecution;
+    }
+
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command;
+
+import me.filoghost.fcommons.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how many times each player can use a command in a period of time, with a token bucket that is refilled
+ * continuously: after using all the uses at once, a new use becomes available every period divided by the uses.
+ * <p>
+ * The state of each bucket is a single timestamp, updated with compare-and-set operations. Players whose bucket is
+ * full again are removed periodically.
+ */
+public final class CommandCooldown {
+
+    private final int maxUses;
+    private final long periodNanos;
+    private final long useIntervalNanos;
+    private final Map<UUID, Long> fullBucketNanos; // When the bucket of each player will be full again
+
+    private volatile long nextCleanupNanos;
+
+    public CommandCooldown(int maxUses, long period, @NotNull TimeUnit unit) {
+        Preconditions.checkArgument(maxUses > 0, "maxUses must be positive");
+        Preconditions.checkArgument(period > 0, "period must be positive");
+        Preconditions.notNull(unit, "unit");
+
+        this.maxUses = maxUses;
+        this.periodNanos = unit.toNanos(period);
+        this.useIntervalNanos = Math.max(1, periodNanos / maxUses);
+        this.fullBucketNanos = new ConcurrentHashMap<>();
+        this.nextCleanupNanos = System.nanoTime() + periodNanos;
+    }
+
+    public int getMaxUses() {
+        return maxUses;
+    }
+
+    public long getPeriod(@NotNull TimeUnit unit) {
+        return unit.convert(periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Consumes a use for the player if available and returns 0, otherwise returns how many nanoseconds the player
+     * must wait before the next use.
+     */
+    public long tryUse(@NotNull UUID playerUUID) {
+        return tryUse(playerUUID, System.nanoTime());
+    }
+
+    long tryUse(UUID playerUUID, long nowNanos) {
+        Preconditions.notNull(playerUUID, "playerUUID");
+
+        if (nowNanos - nextCleanupNanos >= 0) {
+            nextCleanupNanos = nowNanos + periodNanos;
+            removeFullBuckets(nowNanos);
+        }
+
+        while (true) {
+            Long fullNanos = fullBucketNanos.get(playerUUID);
+            long newFullNanos;
+            if (fullNanos == null || fullNanos - nowNanos < 0) {
+                newFullNanos = nowNanos + useIntervalNanos;
+            } else {
+                newFullNanos = fullNanos + useIntervalNanos;
+            }
+
+            long excessNanos = newFullNanos - nowNanos - periodNanos;
+            if (excessNanos > 0) {
+                return excessNanos;
+            }
+
+            if (fullNanos == null) {
+                if (fullBucketNanos.putIfAbsent(playerUUID, newFullNanos) == null) {
+                    return 0;
+                }
+            } else if (fullBucketNanos.replace(playerUUID, fullNanos, newFullNanos)) {
+                return 0;
+            }
+            // Concurrent update, try again
+        }
+    }
+
+    public void reset(@NotNull UUID playerUUID) {
+        fullBucketNanos.remove(playerUUID);
+    }
+
+    public void resetAll() {
+        fullBucketNanos.clear();
+    }
+
+    int getTrackedPlayersCount() {
+        return fullBucketNanos.size();
+    }
+
+    private void removeFullBuckets(long nowNanos) {
+        for (Map.Entry<UUID, Long> entry : fullBucketNanos.entrySet()) {
+            Long fullNanos = entry.getValue();
+            if (fullNanos - nowNanos <= 0) {
+                // Only removed if not concurrently updated
+                fullBucketNanos.remove(entry.getKey(), fullNanos);
+            }
+        }
+    }
+
+}
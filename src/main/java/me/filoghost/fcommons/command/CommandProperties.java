@@ -20,6 +20,13 @@ public interface CommandProperties {
 
     int getMinArgs();
 
+    /**
+     * Returns the cooldown applied to players before executing the command, or null if none.
+     */
+    default CommandCooldown getCooldown() {
+        return null;
+    }
+
     default boolean hasPermission(Permissible permissible) {
         String permission = getPermission();
         if (permission != null) {
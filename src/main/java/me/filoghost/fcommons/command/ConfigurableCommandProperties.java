@@ -12,6 +12,7 @@ public abstract class ConfigurableCommandProperties implements CommandProperties
     private String permissionMessage;
     private String usageArgs;
     private int minArgs;
+    private CommandCooldown cooldown;
 
     @Override
     public final String getName() {
@@ -61,4 +62,13 @@ public abstract class ConfigurableCommandProperties implements CommandProperties
         this.minArgs = minArgs;
     }
 
+    @Override
+    public final CommandCooldown getCooldown() {
+        return cooldown;
+    }
+
+    public final void setCooldown(CommandCooldown cooldown) {
+        this.cooldown = cooldown;
+    }
+
 }
@@ -5,21 +5,34 @@
  */
 package me.filoghost.fcommons.command;
 
+import me.filoghost.fcommons.Preconditions;
+import me.filoghost.fcommons.command.metrics.CommandMetricsListener;
 import me.filoghost.fcommons.command.validation.CommandException;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
-import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.PluginCommand;
+import org.bukkit.command.TabExecutor;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 public abstract class ConfigurableRootCommand extends ConfigurableCommandProperties implements RootCommand {
 
+    private JavaPlugin plugin;
+    private volatile CommandMetricsListener metricsListener = CommandMetricsListener.NO_OP;
+
     public final boolean register(JavaPlugin plugin) {
         super.validate();
+        this.plugin = plugin;
 
         PluginCommand pluginCommand = plugin.getCommand(getName());
         if (pluginCommand == null) {
@@ -35,10 +48,43 @@ public abstract class ConfigurableRootCommand extends ConfigurableCommandPropert
             pluginCommand.setPermissionMessage(ChatColor.RED + "You don't have permission for this command.");
         }
 
-        pluginCommand.setExecutor(new BukkitCommandExecutorAdapter(this));
+        BukkitCommandExecutorAdapter executorAdapter = new BukkitCommandExecutorAdapter(this);
+        pluginCommand.setExecutor(executorAdapter);
+        pluginCommand.setTabCompleter(executorAdapter);
         return true;
     }
 
+    /**
+     * Returns the plugin the command was registered with, or null if not registered.
+     */
+    protected final JavaPlugin getPlugin() {
+        return plugin;
+    }
+
+    public final @NotNull CommandMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    public final void setMetricsListener(@NotNull CommandMetricsListener metricsListener) {
+        Preconditions.notNull(metricsListener, "metricsListener");
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * Defers the metrics of the root command execution until the returned callback is called with the error, or null
+     * if completed normally. Used for executions that continue after returning, such as async sub-commands. Must be
+     * called from the main thread, before returning from {@link #execute(CommandSender, String[], CommandContext)}.
+     */
+    protected final Consumer<Throwable> deferExecutionMetrics(CommandContext context) {
+        RootCommandExecution rootExecution = context.getRootExecution();
+        if (rootExecution == null) {
+            return error -> {};
+        }
+
+        rootExecution.defer();
+        return rootExecution::complete;
+    }
+
     protected void handleUnexpectedException(CommandContext context, Throwable t) {
         Bukkit.getLogger().log(Level.SEVERE, "Internal error while executing /" + context.getRootLabel(), t);
         context.getSender().sendMessage(ChatColor.RED + "Internal error while executing command.");
@@ -48,8 +94,32 @@ public abstract class ConfigurableRootCommand extends ConfigurableCommandPropert
         context.getSender().sendMessage(ChatColor.RED + errorMessage);
     }
 
+    /**
+     * Returns true if the sender is a player who has to wait for the cooldown of the command, after sending the
+     * cooldown message. Otherwise, consumes a use of the cooldown (if any) and returns false.
+     */
+    protected final boolean checkCooldown(CommandContext context, CommandProperties command) {
+        CommandCooldown cooldown = command.getCooldown();
+        if (cooldown == null || !(context.getSender() instanceof Player)) {
+            return false;
+        }
+
+        long remainingNanos = cooldown.tryUse(((Player) context.getSender()).getUniqueId());
+        if (remainingNanos > 0) {
+            sendCooldownMessage(context, TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1);
+            return true;
+        }
+        return false;
+    }
+
+    protected void sendCooldownMessage(CommandContext context, long remainingMillis) {
+        long remainingSeconds = (remainingMillis + 999) / 1000;
+        context.getSender().sendMessage(ChatColor.RED + "Please wait " + remainingSeconds
+                + (remainingSeconds == 1 ? " second" : " seconds") + " before using this command again.");
+    }
+
 
-    private static class BukkitCommandExecutorAdapter implements CommandExecutor {
+    private static class BukkitCommandExecutorAdapter implements TabExecutor {
 
         private final ConfigurableRootCommand command;
 
@@ -59,18 +129,47 @@ public abstract class ConfigurableRootCommand extends ConfigurableCommandPropert
 
         @Override
         public final boolean onCommand(CommandSender sender, Command bukkitCommand, String label, String[] args) {
-            CommandContext context = new CommandContext(sender, label, args);
+            CommandMetricsListener metricsListener = command.getMetricsListener();
+            RootCommandExecution rootExecution = metricsListener.isEnabled()
+                    ? new RootCommandExecution(command, metricsListener)
+                    : null;
+            CommandContext context = new CommandContext(sender, label, args, rootExecution);
 
             try {
+                if (command.checkCooldown(context, command)) {
+                    return true;
+                }
                 command.execute(context.getSender(), context.getArgs(), context);
+                completeExecution(rootExecution, null);
             } catch (CommandException ex) {
+                completeExecution(rootExecution, ex);
                 command.sendExecutionErrorMessage(context, ex.getMessage());
             } catch (Throwable t) {
+                completeExecution(rootExecution, t);
                 command.handleUnexpectedException(context, t);
             }
             return true;
         }
 
+        private static void completeExecution(@Nullable RootCommandExecution rootExecution, @Nullable Throwable error) {
+            if (rootExecution != null && !rootExecution.isDeferred()) {
+                rootExecution.complete(error);
+            }
+        }
+
+        @Override
+        public List<String> onTabComplete(CommandSender sender, Command bukkitCommand, String label, String[] args) {
+            CommandContext context = new CommandContext(sender, label, args);
+
+            try {
+                return command.tabComplete(context.getSender(), context.getArgs(), context);
+            } catch (Throwable t) {
+                // Don't send error messages to the sender while typing
+                Bukkit.getLogger().log(Level.SEVERE, "Internal error while tab completing /" + context.getRootLabel(), t);
+                return new ArrayList<>();
+            }
+        }
+
     }
 
 }
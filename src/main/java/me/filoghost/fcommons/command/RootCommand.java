@@ -8,8 +8,17 @@ package me.filoghost.fcommons.command;
 import me.filoghost.fcommons.command.validation.CommandException;
 import org.bukkit.command.CommandSender;
 
+import java.util.List;
+
 public interface RootCommand extends CommandProperties {
 
     void execute(CommandSender sender, String[] args, CommandContext commandContext) throws CommandException;
 
+    /**
+     * Returns the suggestions for the last argument, or null to suggest the names of the online players.
+     */
+    default List<String> tabComplete(CommandSender sender, String[] args, CommandContext commandContext) {
+        return null;
+    }
+
 }
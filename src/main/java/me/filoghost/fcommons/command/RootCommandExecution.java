@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command;
+
+import me.filoghost.fcommons.command.metrics.CommandMetricsListener;
+import org.jetbrains.annotations.Nullable;
+
+/*
+ * Execution of a root command, measured from when it is received until it completes. The completion can be deferred,
+ * for example until an async sub-command ends.
+ */
+final class RootCommandExecution {
+
+    private final ConfigurableRootCommand command;
+    private final CommandMetricsListener metricsListener;
+    private final long startNanos;
+    private boolean deferred; // Only accessed from the main thread
+
+    RootCommandExecution(ConfigurableRootCommand command, CommandMetricsListener metricsListener) {
+        this.command = command;
+        this.metricsListener = metricsListener;
+        this.startNanos = System.nanoTime();
+    }
+
+    void defer() {
+        deferred = true;
+    }
+
+    boolean isDeferred() {
+        return deferred;
+    }
+
+    void complete(@Nullable Throwable error) {
+        metricsListener.onExecute(command, null, System.nanoTime() - startNanos, error);
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.metrics;
+
+import me.filoghost.fcommons.command.RootCommand;
+import me.filoghost.fcommons.command.sub.SubCommandContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives the execution times of commands, in nanoseconds. Each execution of a sub-command is reported both for the
+ * sub-command and for the root command. Async sub-commands, and the root commands executing them, are reported when
+ * they complete, from their thread.
+ */
+public interface CommandMetricsListener {
+
+    CommandMetricsListener NO_OP = new CommandMetricsListener() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * Returns false if measurements are not needed and should not be collected.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Called after a command is executed, the sub-command context is null for the root command. The error is null if
+     * the command completed normally.
+     */
+    default void onExecute(
+            @NotNull RootCommand command,
+            @Nullable SubCommandContext subCommandContext,
+            long executionNanos,
+            @Nullable Throwable error) {}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.metrics;
+
+import me.filoghost.fcommons.Preconditions;
+import me.filoghost.fcommons.command.metrics.InMemoryCommandMetrics.CommandMetrics;
+import me.filoghost.fcommons.command.sub.SubCommandContext;
+import me.filoghost.fcommons.command.sub.annotated.AnnotatedSubCommand;
+import me.filoghost.fcommons.metrics.Histogram;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Sub-command that displays the collected command metrics, sorted by total execution time. With the "reset" argument,
+ * the metrics are cleared instead. Requires the {@value #DEFAULT_PERMISSION} permission by default, which is only
+ * granted to operators unless configured otherwise.
+ */
+public class CommandMetricsSubCommand extends AnnotatedSubCommand {
+
+    public static final String DEFAULT_PERMISSION = "fcommons.command.metrics";
+
+    private final InMemoryCommandMetrics metrics;
+
+    public CommandMetricsSubCommand(@NotNull String name, @NotNull InMemoryCommandMetrics metrics) {
+        Preconditions.notNull(metrics, "metrics");
+        this.metrics = metrics;
+        setName(name);
+        setPermission(DEFAULT_PERMISSION);
+        setUsageArgs("[reset]");
+        setDescription("Displays the execution statistics of the commands.");
+    }
+
+    @Override
+    public void execute(CommandSender sender, String[] args, SubCommandContext context) {
+        if (args.length > 0 && args[0].equalsIgnoreCase("reset")) {
+            metrics.reset();
+            sender.sendMessage(ChatColor.GREEN + "Command statistics have been reset.");
+            return;
+        }
+
+        List<CommandMetrics> allCommandMetrics = new ArrayList<>(metrics.getAllCommandMetrics());
+        if (allCommandMetrics.isEmpty()) {
+            sender.sendMessage(ChatColor.GRAY + "No commands executed yet.");
+            return;
+        }
+
+        allCommandMetrics.sort(Comparator.comparingLong(
+                (CommandMetrics commandMetrics) -> commandMetrics.getExecutionNanos().getSum()).reversed());
+
+        sender.sendMessage(ChatColor.WHITE + "Command statistics:");
+        for (CommandMetrics commandMetrics : allCommandMetrics) {
+            Histogram executionNanos = commandMetrics.getExecutionNanos();
+            sender.sendMessage(ChatColor.GRAY + "/" + commandMetrics.getCommandPath() + ": "
+                    + commandMetrics.getExecutions() + " executions, "
+                    + commandMetrics.getCommandErrors() + " command errors, "
+                    + commandMetrics.getUnexpectedErrors() + " unexpected errors, "
+                    + "mean " + formatMillis(executionNanos.getMean()) + ", "
+                    + "p99 " + formatMillis(executionNanos.getPercentile(99)) + ", "
+                    + "max " + formatMillis(executionNanos.getMax()));
+        }
+    }
+
+    private static String formatMillis(double nanos) {
+        return String.format(Locale.ROOT, "%.2f ms", nanos / 1_000_000.0);
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.metrics;
+
+import com.google.common.collect.ImmutableList;
+import me.filoghost.fcommons.command.CommandContext;
+import me.filoghost.fcommons.command.RootCommand;
+import me.filoghost.fcommons.command.sub.SubCommandContext;
+import me.filoghost.fcommons.command.validation.CommandException;
+import me.filoghost.fcommons.metrics.Histogram;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps in memory the executions count, the errors count and a histogram of the execution times, separately for each
+ * command and sub-command instance. Commands are displayed by their path: the name of the root command, followed by
+ * the names of the sub-commands (if any) separated by spaces.
+ */
+public class InMemoryCommandMetrics implements CommandMetricsListener {
+
+    private final Map<Object, CommandMetrics> metricsByCommand; // Keyed by root command or sub-command instance
+
+    public InMemoryCommandMetrics() {
+        this.metricsByCommand = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void onExecute(
+            @NotNull RootCommand command,
+            @Nullable SubCommandContext subCommandContext,
+            long executionNanos,
+            @Nullable Throwable error) {
+        Object key = subCommandContext != null ? subCommandContext.getSubCommand() : command;
+        CommandMetrics commandMetrics = metricsByCommand.get(key);
+        if (commandMetrics == null) {
+            // The path is only computed the first time, to keep string operations out of the common case
+            commandMetrics = metricsByCommand.computeIfAbsent(key,
+                    k -> new CommandMetrics(getCommandPath(command, subCommandContext)));
+        }
+        commandMetrics.executionNanos.record(executionNanos);
+        if (error instanceof CommandException) {
+            commandMetrics.commandErrors.increment();
+        } else if (error != null) {
+            commandMetrics.unexpectedErrors.increment();
+        }
+    }
+
+    /**
+     * Returns the metrics of the command with the given path, ignoring case.
+     */
+    public @Nullable CommandMetrics getCommandMetrics(@NotNull String commandPath) {
+        for (CommandMetrics commandMetrics : metricsByCommand.values()) {
+            if (commandMetrics.commandPath.equalsIgnoreCase(commandPath)) {
+                return commandMetrics;
+            }
+        }
+        return null;
+    }
+
+    public @NotNull List<CommandMetrics> getAllCommandMetrics() {
+        return ImmutableList.copyOf(metricsByCommand.values());
+    }
+
+    public void reset() {
+        metricsByCommand.clear();
+    }
+
+    private static String getCommandPath(RootCommand command, @Nullable SubCommandContext subCommandContext) {
+        if (subCommandContext == null) {
+            return command.getName();
+        }
+
+        CommandContext parentContext = subCommandContext.getParentContext();
+        SubCommandContext parentSubCommandContext = parentContext instanceof SubCommandContext
+                ? (SubCommandContext) parentContext
+                : null;
+        return getCommandPath(command, parentSubCommandContext) + " " + subCommandContext.getSubCommand().getName();
+    }
+
+
+    public static class CommandMetrics {
+
+        private final String commandPath;
+        private final Histogram executionNanos = new Histogram();
+        private final LongAdder commandErrors = new LongAdder();
+        private final LongAdder unexpectedErrors = new LongAdder();
+
+        private CommandMetrics(String commandPath) {
+            this.commandPath = commandPath;
+        }
+
+        public String getCommandPath() {
+            return commandPath;
+        }
+
+        public long getExecutions() {
+            return executionNanos.getCount();
+        }
+
+        public Histogram getExecutionNanos() {
+            return executionNanos;
+        }
+
+        /**
+         * Returns how many executions failed with a {@link CommandException}, usually caused by invalid input.
+         */
+        public long getCommandErrors() {
+            return commandErrors.sum();
+        }
+
+        public long getUnexpectedErrors() {
+            return unexpectedErrors.sum();
+        }
+
+    }
+
+}
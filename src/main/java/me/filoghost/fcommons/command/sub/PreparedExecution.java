@@ -0,0 +1,17 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.sub;
+
+import me.filoghost.fcommons.command.validation.CommandException;
+
+/**
+ * Execution of a sub-command whose arguments have already been validated and parsed.
+ */
+public interface PreparedExecution {
+
+    void execute() throws CommandException;
+
+}
@@ -9,8 +9,50 @@ import me.filoghost.fcommons.command.CommandProperties;
 import me.filoghost.fcommons.command.validation.CommandException;
 import org.bukkit.command.CommandSender;
 
+import java.util.Collections;
+import java.util.List;
+
 public interface SubCommand extends CommandProperties {
 
     void execute(CommandSender sender, String[] args, SubCommandContext context) throws CommandException;
 
+    /**
+     * Executes the sub-command, called by the managers instead of {@link #execute(CommandSender, String[],
+     * SubCommandContext)}. Can be overridden to read the arguments from {@link SubCommandContext#getArgsView()},
+     * without creating the array of arguments.
+     */
+    default void execute(SubCommandContext context) throws CommandException {
+        execute(context.getSender(), context.getArgs(), context);
+    }
+
+    /**
+     * Returns the suggestions for the last argument, or null to suggest the names of the online players.
+     */
+    default List<String> tabComplete(CommandSender sender, String[] args, SubCommandContext context) {
+        return null;
+    }
+
+    /**
+     * Returns the other names of the sub-command, also suggested by tab completion.
+     */
+    default List<String> getAliases() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns whether the sub-command should be executed outside the main thread, on the async executor of the
+     * manager. In that case, the Bukkit API must be used only in its thread-safe parts.
+     */
+    default boolean isAsync() {
+        return false;
+    }
+
+    /**
+     * Called on the main thread before an async execution, returns the task to run on the async executor. Can be
+     * overridden to validate and parse the arguments on the main thread, where the whole Bukkit API can be used.
+     */
+    default PreparedExecution prepareAsyncExecution(SubCommandContext context) throws CommandException {
+        return () -> execute(context);
+    }
+
 }
@@ -5,16 +5,27 @@
  */
 package me.filoghost.fcommons.command.sub;
 
+import me.filoghost.fcommons.command.ArgsView;
 import me.filoghost.fcommons.command.CommandContext;
 import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.Nullable;
 
 public class SubCommandContext extends CommandContext {
 
+    private final CommandContext parentContext;
     private final SubCommand subCommand;
     private final String subLabel;
 
     public SubCommandContext(CommandSender sender, String rootLabel, String[] args, SubCommand subCommand, String subLabel) {
         super(sender, rootLabel, args);
+        this.parentContext = null;
+        this.subCommand = subCommand;
+        this.subLabel = subLabel;
+    }
+
+    public SubCommandContext(CommandContext parentContext, ArgsView args, SubCommand subCommand, String subLabel) {
+        super(parentContext, args);
+        this.parentContext = parentContext;
         this.subCommand = subCommand;
         this.subLabel = subLabel;
     }
@@ -27,4 +38,21 @@ public class SubCommandContext extends CommandContext {
         return subLabel;
     }
 
+    /**
+     * Returns the context of the root command or of the group containing the sub-command, or null if this context was
+     * created without a parent.
+     */
+    public @Nullable CommandContext getParentContext() {
+        return parentContext;
+    }
+
+    @Override
+    public String getCommandPath() {
+        if (parentContext != null) {
+            return parentContext.getCommandPath() + " " + subLabel;
+        } else {
+            return getRootLabel() + " " + subLabel;
+        }
+    }
+
 }
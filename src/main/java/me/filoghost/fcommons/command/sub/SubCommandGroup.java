@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.sub;
+
+import me.filoghost.fcommons.command.ArgsView;
+import me.filoghost.fcommons.command.validation.CommandException;
+import me.filoghost.fcommons.command.validation.CommandValidate;
+import org.bukkit.command.CommandSender;
+
+/**
+ * Sub-command that contains other sub-commands, selected by the next argument. {@link SubCommandManager} dispatches to
+ * them with the same checks, cooldowns, async execution, metrics and messages of the top-level sub-commands, and lists
+ * them in the help pages when no sub-command is given.
+ */
+public interface SubCommandGroup extends SubCommand {
+
+    SubCommand getSubCommandByName(String name);
+
+    Iterable<? extends SubCommand> getSubCommands();
+
+    /**
+     * Executes the sub-command selected by the first argument, checking its permission and minimum arguments. Only
+     * used when the group is executed directly: managers do not call this method, and cooldowns and async execution
+     * are applied only by them.
+     */
+    @Override
+    default void execute(CommandSender sender, String[] args, SubCommandContext context) throws CommandException {
+        ArgsView argsView = context.getArgsView();
+        CommandValidate.check(!argsView.isEmpty(), "Missing sub-command. Use /" + context.getCommandPath() + " <sub-command>.");
+
+        String subLabel = argsView.get(0);
+        SubCommand subCommand = getSubCommandByName(subLabel);
+        CommandValidate.notNull(subCommand, "Unknown sub-command \"" + subLabel + "\".");
+
+        if (!subCommand.hasPermission(sender)) {
+            String permissionMessage = subCommand.getPermissionMessage();
+            throw new CommandException(permissionMessage != null
+                    ? permissionMessage
+                    : "You don't have permission for this sub-command.");
+        }
+
+        SubCommandContext subContext = new SubCommandContext(context, argsView.subView(1), subCommand, subLabel);
+        CommandValidate.check(subContext.getArgsView().size() >= subCommand.getMinArgs(),
+                "Command usage: /" + context.getCommandPath() + " " + SubCommandsCache.createUsageSuffix(subCommand));
+        subCommand.execute(subContext);
+    }
+
+}
@@ -5,45 +5,122 @@
  */
 package me.filoghost.fcommons.command.sub;
 
+import me.filoghost.fcommons.Preconditions;
+import me.filoghost.fcommons.command.ArgsView;
 import me.filoghost.fcommons.command.CommandContext;
-import me.filoghost.fcommons.command.CommandHelper;
 import me.filoghost.fcommons.command.validation.CommandException;
 import me.filoghost.fcommons.command.ConfigurableRootCommand;
+import me.filoghost.fcommons.command.metrics.CommandMetricsListener;
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 import org.bukkit.permissions.Permissible;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 public abstract class SubCommandManager extends ConfigurableRootCommand {
 
+    private final Map<Object, Integer> runningAsyncExecutions = new HashMap<>(); // Guarded by itself
+    private final Map<Object, SubCommandsCache> subCommandsCaches = new ConcurrentHashMap<>(); // By group or this manager
+    private volatile Executor asyncExecutor;
+    private volatile Executor mainThreadExecutor;
+    private volatile int maxAsyncExecutionsPerSender;
+    private volatile int helpPageSize;
+
     protected abstract SubCommand getSubCommandByName(String name);
 
     protected abstract Iterable<? extends SubCommand> getSubCommands();
 
+    /**
+     * Sets the executor of async sub-commands, or null to use the Bukkit scheduler of the registering plugin.
+     */
+    public final void setAsyncExecutor(@Nullable Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Sets the executor used to report the errors of async sub-commands, or null to use the Bukkit scheduler of the
+     * registering plugin.
+     */
+    public final void setMainThreadExecutor(@Nullable Executor mainThreadExecutor) {
+        this.mainThreadExecutor = mainThreadExecutor;
+    }
+
+    /**
+     * Sets how many async sub-commands each sender can run at the same time, or 0 for no limit (the default).
+     */
+    public final void setMaxAsyncExecutionsPerSender(int maxAsyncExecutionsPerSender) {
+        Preconditions.checkArgument(maxAsyncExecutionsPerSender >= 0, "maxAsyncExecutionsPerSender cannot be negative");
+        this.maxAsyncExecutionsPerSender = maxAsyncExecutionsPerSender;
+    }
+
+    /**
+     * Sets how many sub-commands are displayed in each help page, or 0 to display all of them (the default).
+     */
+    public final void setHelpPageSize(int helpPageSize) {
+        Preconditions.checkArgument(helpPageSize >= 0, "helpPageSize cannot be negative");
+        this.helpPageSize = helpPageSize;
+    }
+
+    /**
+     * Discards the cached usage texts and accessible sub-commands, must be called when sub-commands are added to or
+     * removed from this manager or one of its groups. Changes to the permission, name and usage arguments of the
+     * sub-commands are detected automatically.
+     */
+    protected final void invalidateSubCommandsCache() {
+        subCommandsCaches.clear();
+    }
+
+    private SubCommandsCache getSubCommandsCache(@Nullable SubCommandGroup group) {
+        Object cacheKey = group != null ? group : this;
+        SubCommandsCache subCommandsCache = subCommandsCaches.get(cacheKey);
+        if (subCommandsCache == null || !subCommandsCache.isValid()) {
+            subCommandsCache = new SubCommandsCache(group != null ? group.getSubCommands() : getSubCommands());
+            subCommandsCaches.put(cacheKey, subCommandsCache);
+        }
+        return subCommandsCache;
+    }
+
     @Override
     public final void execute(CommandSender sender, String[] args, CommandContext context) throws CommandException {
-        if (args.length == 0) {
+        dispatch(context, ArgsView.of(args), null);
+    }
+
+    /*
+     * Selects the sub-command from the first argument, among the ones of the given group or of this manager if null.
+     * Groups are dispatched recursively, so that nested sub-commands go through the same checks.
+     */
+    private void dispatch(CommandContext context, ArgsView args, @Nullable SubCommandGroup group) throws CommandException {
+        if (args.isEmpty()) {
             sendNoArgsMessage(context);
             return;
         }
 
-        String subLabel = args[0];
-        SubCommand subCommand = getSubCommandByName(subLabel);
-        String[] subCommandArgs = CommandHelper.getArgsFromIndex(args, 1);
-        SubCommandContext subContext = new SubCommandContext(
-                context.getSender(),
-                context.getRootLabel(),
-                subCommandArgs,
-                subCommand,
-                subLabel);
+        String subLabel = args.get(0);
+        SubCommand subCommand = group != null ? group.getSubCommandByName(subLabel) : getSubCommandByName(subLabel);
+        SubCommandContext subContext = new SubCommandContext(context, args.subView(1), subCommand, subLabel);
 
         if (subCommand == null) {
-            sendUnknownSubCommandMessage(subContext);
+            int page = parseHelpPage(args);
+            if (page > 0) {
+                sendHelpPage(context, page);
+            } else {
+                sendUnknownSubCommandMessage(subContext);
+            }
             return;
         }
 
+        CommandSender sender = context.getSender();
         if (!subCommand.hasPermission(sender)) {
             if (subCommand.getPermissionMessage() != null) {
                 sender.sendMessage(subCommand.getPermissionMessage());
@@ -53,23 +130,203 @@ public abstract class SubCommandManager extends ConfigurableRootCommand {
             return;
         }
 
+        if (subCommand instanceof SubCommandGroup) {
+            dispatch(subContext, subContext.getArgsView(), (SubCommandGroup) subCommand);
+            return;
+        }
 
-        if (subCommandArgs.length < subCommand.getMinArgs()) {
+        if (subContext.getArgsView().size() < subCommand.getMinArgs()) {
             sendSubCommandUsage(subContext);
             return;
         }
 
-        subCommand.execute(subContext.getSender(), subContext.getArgs(), subContext);
+        if (checkCooldown(subContext, subCommand)) {
+            return;
+        }
+
+        if (subCommand.isAsync()) {
+            executeAsync(subCommand, subContext);
+        } else {
+            executeSubCommand(subCommand, subContext);
+        }
     }
 
-    protected Iterable<? extends SubCommand> getAccessibleSubCommands(Permissible sender) {
-        List<SubCommand> list = new ArrayList<>();
-        for (SubCommand subCommand : getSubCommands()) {
-            if (subCommand.hasPermission(sender)) {
-                list.add(subCommand);
+    /*
+     * Returns the help page number if it is the only argument, or 0 otherwise.
+     */
+    private static int parseHelpPage(ArgsView args) {
+        if (args.size() != 1 || args.get(0).isEmpty() || args.get(0).length() > 9) {
+            return 0;
+        }
+        String page = args.get(0);
+        for (int i = 0; i < page.length(); i++) {
+            if (page.charAt(i) < '0' || page.charAt(i) > '9') {
+                return 0;
             }
         }
-        return list;
+        return Integer.parseInt(page);
+    }
+
+    private void executeSubCommand(SubCommand subCommand, SubCommandContext context) throws CommandException {
+        CommandMetricsListener metricsListener = getMetricsListener();
+        if (!metricsListener.isEnabled()) {
+            subCommand.execute(context);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            subCommand.execute(context);
+        } catch (Throwable t) {
+            metricsListener.onExecute(this, context, System.nanoTime() - startNanos, t);
+            throw t;
+        }
+        metricsListener.onExecute(this, context, System.nanoTime() - startNanos, null);
+    }
+
+    private void executeAsync(SubCommand subCommand, SubCommandContext context) throws CommandException {
+        Executor asyncExecutor = getAsyncExecutor();
+        Executor mainThreadExecutor = getMainThreadExecutor();
+        Object senderKey = getSenderKey(context.getSender());
+
+        // Arguments are parsed on the main thread, where the Bukkit API can be used
+        CommandMetricsListener metricsListener = getMetricsListener();
+        long startNanos = metricsListener.isEnabled() ? System.nanoTime() : 0;
+        PreparedExecution preparedExecution;
+        try {
+            preparedExecution = subCommand.prepareAsyncExecution(context);
+        } catch (Throwable t) {
+            recordExecution(metricsListener, context, startNanos, t);
+            throw t;
+        }
+
+        if (!tryStartAsyncExecution(senderKey)) {
+            sendAsyncExecutionsLimitMessage(context);
+            return;
+        }
+
+        Consumer<Throwable> rootExecutionCompletion = deferExecutionMetrics(context);
+        try {
+            asyncExecutor.execute(() -> {
+                Throwable error = null;
+                try {
+                    preparedExecution.execute();
+                } catch (CommandException e) {
+                    error = e;
+                    mainThreadExecutor.execute(() -> sendExecutionErrorMessage(context, e.getMessage()));
+                } catch (Throwable t) {
+                    error = t;
+                    mainThreadExecutor.execute(() -> handleUnexpectedException(context, t));
+                } finally {
+                    endAsyncExecution(senderKey);
+                }
+                recordExecution(metricsListener, context, startNanos, error);
+                rootExecutionCompletion.accept(error);
+            });
+        } catch (RejectedExecutionException e) {
+            endAsyncExecution(senderKey);
+            rootExecutionCompletion.accept(e);
+            throw e;
+        }
+    }
+
+    private void recordExecution(CommandMetricsListener metricsListener, SubCommandContext context, long startNanos, Throwable error) {
+        if (metricsListener.isEnabled()) {
+            metricsListener.onExecute(this, context, System.nanoTime() - startNanos, error);
+        }
+    }
+
+    private boolean tryStartAsyncExecution(Object senderKey) {
+        int maxExecutions = maxAsyncExecutionsPerSender;
+        synchronized (runningAsyncExecutions) {
+            int executions = runningAsyncExecutions.getOrDefault(senderKey, 0);
+            if (maxExecutions > 0 && executions >= maxExecutions) {
+                return false;
+            }
+            runningAsyncExecutions.put(senderKey, executions + 1);
+            return true;
+        }
+    }
+
+    private void endAsyncExecution(Object senderKey) {
+        synchronized (runningAsyncExecutions) {
+            runningAsyncExecutions.computeIfPresent(senderKey, (key, executions) -> executions > 1 ? executions - 1 : null);
+        }
+    }
+
+    private Object getSenderKey(CommandSender sender) {
+        if (sender instanceof Player) {
+            return ((Player) sender).getUniqueId();
+        } else {
+            return sender.getName();
+        }
+    }
+
+    private Executor getAsyncExecutor() {
+        Executor asyncExecutor = this.asyncExecutor;
+        if (asyncExecutor != null) {
+            return asyncExecutor;
+        }
+
+        JavaPlugin plugin = getPlugin();
+        Preconditions.checkState(plugin != null, "command must be registered or have an async executor");
+        return task -> Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
+    }
+
+    private Executor getMainThreadExecutor() {
+        Executor mainThreadExecutor = this.mainThreadExecutor;
+        if (mainThreadExecutor != null) {
+            return mainThreadExecutor;
+        }
+
+        JavaPlugin plugin = getPlugin();
+        Preconditions.checkState(plugin != null, "command must be registered or have a main thread executor");
+        return task -> Bukkit.getScheduler().runTask(plugin, task);
+    }
+
+    @Override
+    public List<String> tabComplete(CommandSender sender, String[] args, CommandContext context) {
+        return tabComplete(context, ArgsView.of(args), null);
+    }
+
+    private List<String> tabComplete(CommandContext context, ArgsView args, @Nullable SubCommandGroup group) {
+        CommandSender sender = context.getSender();
+        if (args.size() <= 1) {
+            String prefix = args.isEmpty() ? "" : args.get(0);
+            if (group != null) {
+                return getSubCommandsCache(group).getNameCompletions(sender, prefix);
+            } else {
+                return getSubCommandNameCompletions(sender, prefix);
+            }
+        }
+
+        String subLabel = args.get(0);
+        SubCommand subCommand = group != null ? group.getSubCommandByName(subLabel) : getSubCommandByName(subLabel);
+        if (subCommand == null || !subCommand.hasPermission(sender)) {
+            return new ArrayList<>();
+        }
+
+        SubCommandContext subContext = new SubCommandContext(context, args.subView(1), subCommand, subLabel);
+        if (subCommand instanceof SubCommandGroup) {
+            return tabComplete(subContext, subContext.getArgsView(), (SubCommandGroup) subCommand);
+        }
+        return subCommand.tabComplete(subContext.getSender(), subContext.getArgs(), subContext);
+    }
+
+    /**
+     * Returns the names and aliases of the accessible sub-commands starting with the given prefix, ignoring case. The
+     * names are searched in a sorted index, built once for the current sub-commands.
+     */
+    protected List<String> getSubCommandNameCompletions(CommandSender sender, String prefix) {
+        return getSubCommandsCache(null).getNameCompletions(sender, prefix);
+    }
+
+    /**
+     * Returns the sub-commands the sender has permission for, in the same order of {@link #getSubCommands()}. The
+     * returned lists are cached by set of granted permissions.
+     */
+    protected Iterable<? extends SubCommand> getAccessibleSubCommands(Permissible sender) {
+        return getSubCommandsCache(null).getAccessibleSubCommands(sender);
     }
 
     protected void sendSubCommandUsage(SubCommandContext context) {
@@ -81,23 +338,102 @@ public abstract class SubCommandManager extends ConfigurableRootCommand {
         context.getSender().sendMessage(ChatColor.RED + "You don't have permission for this sub-command.");
     }
 
+    protected void sendAsyncExecutionsLimitMessage(SubCommandContext context) {
+        context.getSender().sendMessage(ChatColor.RED + "Please wait for your previous commands to complete.");
+    }
+
     protected void sendUnknownSubCommandMessage(SubCommandContext context) {
         context.getSender().sendMessage(ChatColor.RED + "Unknown sub-command \"" + context.getSubLabel() + "\"."
-                + " Use /" + context.getRootLabel() + " to see available commands.");
+                + " Use /" + getParentContext(context).getCommandPath() + " to see available commands.");
     }
 
     protected void sendNoArgsMessage(CommandContext context) {
+        sendHelpPage(context, 1);
+    }
+
+    /**
+     * Sends the usage of the accessible sub-commands in the given page, starting from 1. Pages out of range are
+     * clamped to the first or last page. Sent when there are no arguments (first page) or when the only argument is a
+     * page number. If the context is the one of a {@link SubCommandGroup}, the sub-commands of the group are listed.
+     */
+    protected void sendHelpPage(CommandContext context, int page) {
         CommandSender sender = context.getSender();
-        sender.sendMessage(ChatColor.WHITE + "/" + context.getRootLabel() + " commands:");
-        for (SubCommand subCommand : getAccessibleSubCommands(sender)) {
-            sender.sendMessage(ChatColor.GRAY + getUsageText(context, subCommand));
+        List<SubCommand> accessibleSubCommands = getAccessibleSubCommands(context);
+        int pageSize = helpPageSize > 0 ? helpPageSize : Math.max(1, accessibleSubCommands.size());
+        int pagesCount = Math.max(1, (accessibleSubCommands.size() + pageSize - 1) / pageSize);
+        int currentPage = Math.min(Math.max(page, 1), pagesCount);
+
+        if (pagesCount > 1) {
+            sender.sendMessage(ChatColor.WHITE + "/" + context.getCommandPath() + " commands "
+                    + "(page " + currentPage + "/" + pagesCount + "):");
+        } else {
+            sender.sendMessage(ChatColor.WHITE + "/" + context.getCommandPath() + " commands:");
+        }
+
+        int fromIndex = (currentPage - 1) * pageSize;
+        int toIndex = Math.min(fromIndex + pageSize, accessibleSubCommands.size());
+        for (int i = fromIndex; i < toIndex; i++) {
+            sender.sendMessage(ChatColor.GRAY + getUsageText(context, accessibleSubCommands.get(i)));
+        }
+
+        if (currentPage < pagesCount) {
+            sender.sendMessage(ChatColor.GRAY + "Use /" + context.getCommandPath() + " " + (currentPage + 1)
+                    + " to see the next page.");
         }
     }
 
+    private List<SubCommand> getAccessibleSubCommands(CommandContext context) {
+        SubCommandGroup group = getGroup(context);
+        if (group != null) {
+            return getSubCommandsCache(group).getAccessibleSubCommands(context.getSender());
+        }
+
+        Iterable<? extends SubCommand> accessibleSubCommands = getAccessibleSubCommands(context.getSender());
+        if (accessibleSubCommands instanceof List) {
+            @SuppressWarnings("unchecked")
+            List<SubCommand> accessibleSubCommandsList = (List<SubCommand>) accessibleSubCommands;
+            return accessibleSubCommandsList;
+        }
+        List<SubCommand> list = new ArrayList<>();
+        accessibleSubCommands.forEach(list::add);
+        return list;
+    }
+
+    /*
+     * Returns the group of the context, or null if it is the context of the root command.
+     */
+    private static @Nullable SubCommandGroup getGroup(CommandContext context) {
+        if (context instanceof SubCommandContext && ((SubCommandContext) context).getSubCommand() instanceof SubCommandGroup) {
+            return (SubCommandGroup) ((SubCommandContext) context).getSubCommand();
+        } else {
+            return null;
+        }
+    }
+
+    private static CommandContext getParentContext(SubCommandContext context) {
+        CommandContext parentContext = context.getParentContext();
+        if (parentContext != null) {
+            return parentContext;
+        } else {
+            return new CommandContext(context.getSender(), context.getRootLabel(), context.getArgsView());
+        }
+    }
+
+    /**
+     * Returns the usage of a sub-command, given the context of the sub-command itself or the context of the root
+     * command or group containing it (as in the help pages). The usage arguments are cached for each sub-command.
+     */
     protected String getUsageText(CommandContext context, SubCommand subCommand) {
-        String rootLabel = context.getRootLabel();
-        String usageArgs = subCommand.getUsageArgs();
-        return "/" + rootLabel + " " + subCommand.getName() + (usageArgs != null ? " " + usageArgs : "");
+        CommandContext containingContext = context;
+        if (context instanceof SubCommandContext && ((SubCommandContext) context).getSubCommand() == subCommand) {
+            containingContext = getParentContext((SubCommandContext) context);
+        }
+
+        String usageSuffix = getSubCommandsCache(getGroup(containingContext)).getUsageSuffix(subCommand);
+        if (usageSuffix == null) {
+            usageSuffix = SubCommandsCache.createUsageSuffix(subCommand); // Not one of the known sub-commands
+        }
+        return "/" + containingContext.getCommandPath() + " " + usageSuffix;
     }
 
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.sub;
+
+import me.filoghost.fcommons.Preconditions;
+import me.filoghost.fcommons.collection.CaseInsensitiveString;
+import org.bukkit.permissions.Permissible;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sorted index of sub-command names, to find the names starting with a prefix with a binary search. Names are
+ * compared in upper case, with the same case conversion of {@link CaseInsensitiveString}.
+ */
+public final class SubCommandNameIndex {
+
+    private final List<Entry> entries; // Sorted by key
+
+    public SubCommandNameIndex() {
+        this.entries = new ArrayList<>();
+    }
+
+    public void add(@NotNull String name, @NotNull SubCommand subCommand) {
+        Preconditions.notNull(name, "name");
+        Preconditions.notNull(subCommand, "subCommand");
+
+        Entry entry = new Entry(name, subCommand);
+        int index = findFirstIndex(entry.key);
+        while (index < entries.size() && entries.get(index).key.equals(entry.key)) {
+            index++; // Keep insertion order for equal keys
+        }
+        entries.add(index, entry);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the names starting with the given prefix (ignoring case) of the sub-commands the permissible has
+     * permission for, sorted by their upper case name.
+     */
+    public @NotNull List<String> getCompletions(@NotNull Permissible permissible, @NotNull String prefix) {
+        String uppercasePrefix = CaseInsensitiveString.toUpperCase(prefix); // Same instance if already upper case
+        int fromIndex = findFirstIndex(uppercasePrefix);
+        int toIndex = fromIndex;
+        while (toIndex < entries.size() && entries.get(toIndex).key.startsWith(uppercasePrefix)) {
+            toIndex++;
+        }
+
+        List<String> completions = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            Entry entry = entries.get(i);
+            if (entry.subCommand.hasPermission(permissible)) {
+                completions.add(entry.name);
+            }
+        }
+        return completions;
+    }
+
+    private int findFirstIndex(String key) {
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (entries.get(middle).key.compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+
+    private static class Entry {
+
+        private final String key;
+        private final String name;
+        private final SubCommand subCommand;
+
+        private Entry(String name, SubCommand subCommand) {
+            this.key = CaseInsensitiveString.toUpperCase(name);
+            this.name = name;
+            this.subCommand = subCommand;
+        }
+
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.sub;
+
+import com.google.common.collect.ImmutableList;
+import me.filoghost.fcommons.collection.CaseInsensitiveString;
+import org.bukkit.permissions.Permissible;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Snapshot of the sub-commands of a manager or of a group, with their usage texts, the index of their names and
+ * aliases for tab completion, and the lists of accessible sub-commands for each combination of granted permissions.
+ *
+ * The key of the accessible lists is the set of permissions granted to the sender, checked on each call. Senders whose
+ * permissions are recalculated are therefore mapped to the right list without clearing the cache, and only the
+ * distinct permissions are checked instead of every sub-command. The snapshot becomes invalid when the permission,
+ * name or usage arguments of a sub-command change.
+ */
+final class SubCommandsCache {
+
+    private static final int MAX_CACHED_PERMISSION_SETS = 256;
+
+    private final ImmutableList<SubCommand> subCommands;
+    private final String[] subCommandPermissions;
+    private final String[] subCommandNames;
+    private final String[] subCommandUsageArgs;
+    private final Map<SubCommand, String> usageSuffixes;
+    private final SubCommandNameIndex nameIndex; // Also contains aliases
+    private final String[] permissions; // Distinct permissions of the sub-commands
+    private final int[] permissionIndexes; // For each sub-command, -1 if it doesn't require a permission
+    private final boolean cacheable;
+    private final Map<BitSet, ImmutableList<SubCommand>> accessibleSubCommands;
+
+    SubCommandsCache(Iterable<? extends SubCommand> subCommands) {
+        this.subCommands = ImmutableList.copyOf(subCommands);
+        int size = this.subCommands.size();
+        this.subCommandPermissions = new String[size];
+        this.subCommandNames = new String[size];
+        this.subCommandUsageArgs = new String[size];
+        this.usageSuffixes = new IdentityHashMap<>(size);
+        this.permissionIndexes = new int[size];
+        this.nameIndex = new SubCommandNameIndex();
+        this.accessibleSubCommands = new ConcurrentHashMap<>();
+
+        Map<String, Integer> permissionIndexesByName = new LinkedHashMap<>();
+        Set<String> indexedNames = new HashSet<>(); // In upper case, like the names compared by the index
+        boolean cacheable = true;
+        for (int i = 0; i < size; i++) {
+            SubCommand subCommand = this.subCommands.get(i);
+            String permission = subCommand.getPermission();
+            subCommandPermissions[i] = permission;
+            subCommandNames[i] = subCommand.getName();
+            subCommandUsageArgs[i] = subCommand.getUsageArgs();
+            usageSuffixes.put(subCommand, createUsageSuffix(subCommand));
+            nameIndex.add(subCommand.getName(), subCommand);
+            indexedNames.add(CaseInsensitiveString.toUpperCase(subCommand.getName()));
+            for (String alias : subCommand.getAliases()) {
+                if (indexedNames.add(CaseInsensitiveString.toUpperCase(alias))) {
+                    nameIndex.add(alias, subCommand);
+                }
+            }
+
+            if (permission != null) {
+                Integer permissionIndex = permissionIndexesByName.get(permission);
+                if (permissionIndex == null) {
+                    permissionIndex = permissionIndexesByName.size();
+                    permissionIndexesByName.put(permission, permissionIndex);
+                }
+                permissionIndexes[i] = permissionIndex;
+            } else {
+                permissionIndexes[i] = -1;
+            }
+            if (overridesHasPermission(subCommand)) {
+                cacheable = false; // The result may not depend only on the permission
+            }
+        }
+        this.permissions = permissionIndexesByName.keySet().toArray(new String[0]);
+        this.cacheable = cacheable;
+    }
+
+    /*
+     * Returns false if the properties used by the snapshot have changed since it was created.
+     */
+    boolean isValid() {
+        for (int i = 0; i < subCommands.size(); i++) {
+            SubCommand subCommand = subCommands.get(i);
+            if (subCommand.getPermission() != subCommandPermissions[i]
+                    || subCommand.getName() != subCommandNames[i]
+                    || subCommand.getUsageArgs() != subCommandUsageArgs[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    List<SubCommand> getAccessibleSubCommands(Permissible permissible) {
+        if (!cacheable) {
+            List<SubCommand> accessibleSubCommands = new ArrayList<>();
+            for (SubCommand subCommand : subCommands) {
+                if (subCommand.hasPermission(permissible)) {
+                    accessibleSubCommands.add(subCommand);
+                }
+            }
+            return accessibleSubCommands;
+        }
+
+        BitSet grantedPermissions = new BitSet(permissions.length);
+        for (int i = 0; i < permissions.length; i++) {
+            if (permissible.hasPermission(permissions[i])) {
+                grantedPermissions.set(i);
+            }
+        }
+
+        ImmutableList<SubCommand> accessibleSubCommands = this.accessibleSubCommands.get(grantedPermissions);
+        if (accessibleSubCommands == null) {
+            ImmutableList.Builder<SubCommand> builder = ImmutableList.builder();
+            for (int i = 0; i < subCommands.size(); i++) {
+                if (permissionIndexes[i] < 0 || grantedPermissions.get(permissionIndexes[i])) {
+                    builder.add(subCommands.get(i));
+                }
+            }
+            accessibleSubCommands = builder.build();
+
+            if (this.accessibleSubCommands.size() >= MAX_CACHED_PERMISSION_SETS) {
+                this.accessibleSubCommands.clear();
+            }
+            this.accessibleSubCommands.put(grantedPermissions, accessibleSubCommands);
+        }
+        return accessibleSubCommands;
+    }
+
+    List<String> getNameCompletions(Permissible permissible, String prefix) {
+        return nameIndex.getCompletions(permissible, prefix);
+    }
+
+    /*
+     * Returns the part of the usage text after the command path, or null if the sub-command is not in the snapshot.
+     */
+    String getUsageSuffix(SubCommand subCommand) {
+        return usageSuffixes.get(subCommand);
+    }
+
+    static String createUsageSuffix(SubCommand subCommand) {
+        String usageArgs = subCommand.getUsageArgs();
+        return subCommand.getName() + (usageArgs != null ? " " + usageArgs : "");
+    }
+
+    private static boolean overridesHasPermission(SubCommand subCommand) {
+        try {
+            return !subCommand.getClass().getMethod("hasPermission", Permissible.class).isDefault();
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+}
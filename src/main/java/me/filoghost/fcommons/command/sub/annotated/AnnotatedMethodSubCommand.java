@@ -5,19 +5,27 @@
  */
 package me.filoghost.fcommons.command.sub.annotated;
 
+import me.filoghost.fcommons.MaterialsHelper;
+import me.filoghost.fcommons.collection.ImmutableEnumLookupRegistry;
+import me.filoghost.fcommons.command.sub.PreparedExecution;
 import me.filoghost.fcommons.command.sub.SubCommand;
 import me.filoghost.fcommons.command.sub.SubCommandContext;
 import me.filoghost.fcommons.command.validation.CommandException;
+import me.filoghost.fcommons.command.validation.CommandValidate;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedElement;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class AnnotatedMethodSubCommand extends AnnotatedSubCommand {
 
@@ -29,25 +37,117 @@ public class AnnotatedMethodSubCommand extends AnnotatedSubCommand {
         parameterProviders.put(String[].class, SubCommandContext::getArgs);
     }
 
-    private final Object instance;
+    // Parameters of these types receive the arguments in order
+    private static final Map<Class<?>, ArgumentParser> argumentParsers = new HashMap<>();
+    static {
+        argumentParsers.put(String.class, argument -> argument);
+        argumentParsers.put(int.class, CommandValidate::parseInteger);
+        argumentParsers.put(Integer.class, CommandValidate::parseInteger);
+        argumentParsers.put(double.class, CommandValidate::parseDouble);
+        argumentParsers.put(Double.class, CommandValidate::parseDouble);
+        argumentParsers.put(Player.class, argument -> {
+            Player player = Bukkit.getPlayerExact(argument);
+            CommandValidate.notNull(player, "Player \"" + argument + "\" is not online.");
+            return player;
+        });
+        argumentParsers.put(Material.class, argument -> {
+            Material material = MaterialsHelper.matchMaterial(argument);
+            CommandValidate.notNull(material, "Invalid material \"" + argument + "\".");
+            return material;
+        });
+    }
+
     private final Method method;
-    private final List<MethodParameterProvider> methodParameterProviders;
+    private final MethodParameterProvider[] methodParameterProviders;
+    private final MethodInvoker methodInvoker;
+    private final MethodHandle spreadMethodHandle; // Used for async executions
 
     protected AnnotatedMethodSubCommand(Object instance, Method method) {
-        this.instance = instance;
-        this.method = method;
-        this.method.setAccessible(true);
+        this(instance, new MethodMetadata(method));
+    }
+
+    AnnotatedMethodSubCommand(Object instance, MethodMetadata metadata) {
+        this.method = metadata.method;
 
         super.readPropertiesFromAnnotations();
 
-        this.methodParameterProviders = Arrays.stream(method.getParameterTypes()).map((Class<?> paramType) -> {
-            MethodParameterProvider parameterProvider = parameterProviders.get(paramType);
-            if (parameterProvider == null) {
-                throw new IllegalArgumentException("Method " + method.getName()
-                        + " contains unsupported parameter type: " + paramType.getSimpleName());
+        // Arguments are parsed only after the sub-command manager checks the minimum arguments
+        setMinArgs(Math.max(getMinArgs(), metadata.argumentsCount));
+
+        MethodHandle methodHandle = metadata.bindMethodHandle(instance);
+        this.methodParameterProviders = metadata.parameterProviders;
+        this.methodInvoker = createMethodInvoker(methodHandle, methodParameterProviders);
+        this.spreadMethodHandle = methodHandle.asSpreader(Object[].class, methodParameterProviders.length);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentParser getArgumentParser(Class<?> paramType) {
+        if (paramType.isEnum()) {
+            return createEnumArgumentParser((Class) paramType);
+        }
+        return argumentParsers.get(paramType);
+    }
+
+    private static <E extends Enum<E>> ArgumentParser createEnumArgumentParser(Class<E> enumType) {
+        ImmutableEnumLookupRegistry<E> enumRegistry = ImmutableEnumLookupRegistry.fromEnumValues(enumType);
+        return argument -> {
+            E value = enumRegistry.lookup(argument);
+            CommandValidate.notNull(value, "Invalid value \"" + argument + "\".");
+            return value;
+        };
+    }
+
+    /*
+     * The common arities are bound to fixed-arity calls, to avoid allocating an array of arguments on each execution.
+     * Lambdas must have block bodies: an expression body would compile the exact invocation with an Object return type.
+     */
+    private static MethodInvoker createMethodInvoker(MethodHandle handle, MethodParameterProvider[] providers) {
+        switch (providers.length) {
+            case 0:
+                return context -> {
+                    handle.invokeExact();
+                };
+            case 1: {
+                MethodParameterProvider p0 = providers[0];
+                return context -> {
+                    handle.invokeExact(p0.get(context));
+                };
+            }
+            case 2: {
+                MethodParameterProvider p0 = providers[0];
+                MethodParameterProvider p1 = providers[1];
+                return context -> {
+                    handle.invokeExact(p0.get(context), p1.get(context));
+                };
+            }
+            case 3: {
+                MethodParameterProvider p0 = providers[0];
+                MethodParameterProvider p1 = providers[1];
+                MethodParameterProvider p2 = providers[2];
+                return context -> {
+                    handle.invokeExact(p0.get(context), p1.get(context), p2.get(context));
+                };
             }
-            return parameterProvider;
-        }).collect(Collectors.toList());
+            case 4: {
+                MethodParameterProvider p0 = providers[0];
+                MethodParameterProvider p1 = providers[1];
+                MethodParameterProvider p2 = providers[2];
+                MethodParameterProvider p3 = providers[3];
+                return context -> {
+                    handle.invokeExact(p0.get(context), p1.get(context), p2.get(context), p3.get(context));
+                };
+            }
+            default: {
+                MethodHandle spreader = handle.asSpreader(Object[].class, providers.length);
+                return context -> {
+                    Object[] methodParameters = new Object[providers.length];
+                    for (int i = 0; i < providers.length; i++) {
+                        methodParameters[i] = providers[i].get(context);
+                    }
+                    spreader.invokeExact(methodParameters);
+                };
+            }
+        }
     }
 
     @Override
@@ -57,25 +157,139 @@ public class AnnotatedMethodSubCommand extends AnnotatedSubCommand {
 
     @Override
     public void execute(CommandSender sender, String[] args, SubCommandContext context) throws CommandException {
-        Object[] methodParameters = methodParameterProviders.stream().map(provider -> provider.get(context)).toArray();
+        execute(context);
+    }
 
+    @Override
+    public void execute(SubCommandContext context) throws CommandException {
         try {
-            method.invoke(instance, methodParameters);
-        } catch (InvocationTargetException e) {
-            if (e.getCause() instanceof CommandException) {
-                throw (CommandException) e.getCause();
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
+            methodInvoker.invoke(context);
+        } catch (CommandException e) {
+            throw e;
         } catch (Throwable t) {
             throw new RuntimeException(t);
         }
     }
 
+    /*
+     * The parameters are resolved on the main thread, so that argument parsers can use the Bukkit API (for example to
+     * find online players), and only the method is invoked on the async thread.
+     */
+    @Override
+    public PreparedExecution prepareAsyncExecution(SubCommandContext context) throws CommandException {
+        Object[] methodParameters = new Object[methodParameterProviders.length];
+        for (int i = 0; i < methodParameterProviders.length; i++) {
+            methodParameters[i] = methodParameterProviders[i].get(context);
+        }
+
+        return () -> {
+            try {
+                spreadMethodHandle.invokeExact(methodParameters);
+            } catch (CommandException e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        };
+    }
+
+
+    /*
+     * The parts of a sub-command method that don't depend on the instance, which can be shared by all the instances
+     * of the same class.
+     */
+    static final class MethodMetadata {
+
+        private final Method method;
+        private final MethodParameterProvider[] parameterProviders;
+        private final int argumentsCount;
+        private final MethodHandle methodHandle; // Not bound to an instance yet
+
+        MethodMetadata(Method method) {
+            this.method = method;
+            this.method.setAccessible(true);
+
+            Parameter[] params = method.getParameters();
+            this.parameterProviders = new MethodParameterProvider[params.length];
+            int argumentsCount = 0;
+            boolean greedyArgument = false;
+            for (int i = 0; i < params.length; i++) {
+                Class<?> paramType = params[i].getType();
+                MethodParameterProvider parameterProvider = AnnotatedMethodSubCommand.parameterProviders.get(paramType);
+
+                if (parameterProvider == null) {
+                    if (greedyArgument) {
+                        throw new IllegalArgumentException("Method " + method.getName()
+                                + " contains parameters after the @Greedy parameter");
+                    }
+
+                    int argumentIndex = argumentsCount;
+                    if (params[i].isAnnotationPresent(Greedy.class)) {
+                        if (paramType != String.class) {
+                            throw new IllegalArgumentException("Method " + method.getName()
+                                    + " contains @Greedy parameter which is not a String");
+                        }
+                        greedyArgument = true;
+                        parameterProvider = context -> context.getArgsView().join(argumentIndex);
+                    } else {
+                        ArgumentParser argumentParser = getArgumentParser(paramType);
+                        if (argumentParser == null) {
+                            throw new IllegalArgumentException("Method " + method.getName()
+                                    + " contains unsupported parameter type: " + paramType.getSimpleName());
+                        }
+                        parameterProvider = context -> argumentParser.parse(context.getArgsView().get(argumentIndex));
+                    }
+                    argumentsCount++;
+                }
+
+                parameterProviders[i] = parameterProvider;
+            }
+            this.argumentsCount = argumentsCount;
+
+            MethodHandle methodHandle;
+            try {
+                methodHandle = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Method " + method.getName() + " is not accessible", e);
+            }
+
+            // Erase the parameter types and discard the return value, to allow exact invocations from the invoker
+            MethodType genericType = MethodType.genericMethodType(methodHandle.type().parameterCount())
+                    .changeReturnType(void.class);
+            this.methodHandle = methodHandle.asType(genericType);
+        }
+
+        Method getMethod() {
+            return method;
+        }
+
+        private MethodHandle bindMethodHandle(Object instance) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                return methodHandle;
+            }
+            return methodHandle.bindTo(instance);
+        }
+
+    }
+
 
     private interface MethodParameterProvider {
 
-        Object get(SubCommandContext context);
+        Object get(SubCommandContext context) throws CommandException;
+
+    }
+
+
+    private interface ArgumentParser {
+
+        Object parse(String argument) throws CommandException;
+
+    }
+
+
+    private interface MethodInvoker {
+
+        void invoke(SubCommandContext context) throws Throwable;
 
     }
 
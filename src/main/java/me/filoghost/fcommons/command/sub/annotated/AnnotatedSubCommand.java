@@ -5,16 +5,22 @@
  */
 package me.filoghost.fcommons.command.sub.annotated;
 
+import com.google.common.collect.ImmutableList;
+import me.filoghost.fcommons.Preconditions;
+import me.filoghost.fcommons.command.CommandCooldown;
 import me.filoghost.fcommons.command.ConfigurableCommandProperties;
 import me.filoghost.fcommons.command.sub.SubCommand;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.util.List;
 
 public abstract class AnnotatedSubCommand extends ConfigurableCommandProperties implements SubCommand {
 
     private int displayPriority;
     private String description;
+    private boolean async;
+    private ImmutableList<String> aliases = ImmutableList.of();
 
     protected AnnotatedElement getAnnotatedElement() {
         return null;
@@ -40,6 +46,11 @@ public abstract class AnnotatedSubCommand extends ConfigurableCommandProperties
             setName(name.value());
         }
 
+        Aliases aliases = annotatedElement.getAnnotation(Aliases.class);
+        if (aliases != null) {
+            setAliases(aliases.value());
+        }
+
         Permission permission = annotatedElement.getAnnotation(Permission.class);
         if (permission != null) {
             setPermission(permission.value());
@@ -69,6 +80,15 @@ public abstract class AnnotatedSubCommand extends ConfigurableCommandProperties
         if (description != null) {
             setDescription(description.value());
         }
+
+        Cooldown cooldown = annotatedElement.getAnnotation(Cooldown.class);
+        if (cooldown != null) {
+            setCooldown(new CommandCooldown(cooldown.uses(), cooldown.value(), cooldown.unit()));
+        }
+
+        if (annotatedElement.isAnnotationPresent(Async.class)) {
+            setAsync(true);
+        }
     }
 
     public int getDisplayPriority() {
@@ -87,4 +107,26 @@ public abstract class AnnotatedSubCommand extends ConfigurableCommandProperties
         this.description = description;
     }
 
+    @Override
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    @Override
+    public List<String> getAliases() {
+        return aliases;
+    }
+
+    /**
+     * Sets alternative names for the sub-command, must be called before it is registered.
+     */
+    public void setAliases(String... aliases) {
+        Preconditions.notNull(aliases, "aliases");
+        this.aliases = ImmutableList.copyOf(aliases);
+    }
+
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.sub.annotated;
+
+import me.filoghost.fcommons.Preconditions;
+import me.filoghost.fcommons.command.sub.SubCommandGroup;
+
+import java.lang.reflect.AnnotatedElement;
+
+/**
+ * Sub-command that contains other sub-commands, declared like in {@link AnnotatedSubCommandManager}. The properties of
+ * the group itself are read from the annotations of its class. Groups can be registered inside other groups.
+ * <p>
+ * The nested sub-commands are dispatched by the manager, see {@link SubCommandGroup}. Those without a permission get
+ * the one of {@link AnnotatedSubCommandManager#getDefaultSubCommandPermission(AnnotatedSubCommand)}.
+ */
+public abstract class AnnotatedSubCommandGroup extends AnnotatedSubCommand implements SubCommandGroup {
+
+    private final AnnotatedSubCommandRegistry subCommands;
+    private AnnotatedSubCommandManager manager; // Set when registered, directly or inside another group
+
+    protected AnnotatedSubCommandGroup() {
+        this.subCommands = new AnnotatedSubCommandRegistry();
+
+        super.readPropertiesFromAnnotations();
+        AnnotatedSubCommandRegistry.scanMethodsSubCommands(this, getClass(), this::registerSubCommand);
+    }
+
+    @Override
+    protected AnnotatedElement getAnnotatedElement() {
+        return getClass();
+    }
+
+    @Override
+    public final AnnotatedSubCommand getSubCommandByName(String name) {
+        return subCommands.getByName(name);
+    }
+
+    @Override
+    public final Iterable<AnnotatedSubCommand> getSubCommands() {
+        return subCommands.getAll();
+    }
+
+    protected final void registerSubCommand(AnnotatedSubCommand subCommand) {
+        subCommands.checkNotRegistered(subCommand);
+        if (manager != null) {
+            manager.applyDefaultPermissions(subCommand);
+        }
+        subCommands.register(subCommand);
+        if (manager != null) {
+            manager.onGroupSubCommandsChange();
+        }
+    }
+
+    /*
+     * Applies the default permissions of the manager to the sub-commands, since they are usually registered before.
+     */
+    void setManager(AnnotatedSubCommandManager manager) {
+        Preconditions.checkState(this.manager == null || this.manager == manager, "group already registered in another manager");
+        this.manager = manager;
+        for (AnnotatedSubCommand subCommand : subCommands.getAll()) {
+            manager.applyDefaultPermissions(subCommand);
+        }
+    }
+
+}
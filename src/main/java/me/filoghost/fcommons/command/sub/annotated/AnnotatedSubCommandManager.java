@@ -5,64 +5,54 @@
  */
 package me.filoghost.fcommons.command.sub.annotated;
 
-import me.filoghost.fcommons.Preconditions;
-import me.filoghost.fcommons.command.sub.SubCommand;
 import me.filoghost.fcommons.command.sub.SubCommandManager;
 
-import java.lang.reflect.Method;
-import java.util.Comparator;
-import java.util.SortedSet;
-import java.util.TreeSet;
-
 public class AnnotatedSubCommandManager extends SubCommandManager {
 
-    private final SortedSet<AnnotatedSubCommand> subCommands;
+    private final AnnotatedSubCommandRegistry subCommands;
 
     public AnnotatedSubCommandManager() {
-        this.subCommands = new TreeSet<>(Comparator
-                .comparing(AnnotatedSubCommand::getDisplayPriority).reversed()
-                .thenComparing(SubCommand::getName, String.CASE_INSENSITIVE_ORDER));
+        this.subCommands = new AnnotatedSubCommandRegistry();
 
-        scanMethodsSubCommands(getClass());
-    }
-
-    private void scanMethodsSubCommands(Class<?> classToScan) {
-        for (Method method : classToScan.getDeclaredMethods()) {
-            if (method.isAnnotationPresent(Name.class)) {
-                AnnotatedSubCommand subCommand = new AnnotatedMethodSubCommand(this, method);
-                registerSubCommand(subCommand);
-            }
-        }
+        AnnotatedSubCommandRegistry.scanMethodsSubCommands(this, getClass(), this::registerSubCommand);
     }
 
     @Override
     protected final AnnotatedSubCommand getSubCommandByName(String name) {
-        for (AnnotatedSubCommand subCommand : subCommands) {
-            if (subCommand.getName().equalsIgnoreCase(name)) {
-                return subCommand;
-            }
-        }
-        return null;
+        return subCommands.getByName(name);
     }
 
     @Override
     protected final Iterable<AnnotatedSubCommand> getSubCommands() {
-        return subCommands;
+        return subCommands.getAll();
     }
 
     protected final void registerSubCommand(AnnotatedSubCommand subCommand) {
-        Preconditions.notNull(subCommand, "subCommand");
-        subCommand.validate();
-        Preconditions.checkState(getSubCommandByName(subCommand.getName()) == null,
-                "subCommand with same name already registered");
+        subCommands.checkNotRegistered(subCommand);
+        applyDefaultPermissions(subCommand);
+        subCommands.register(subCommand);
+        invalidateSubCommandsCache();
+    }
 
+    /*
+     * Sets the default permission if missing, also to the sub-commands of groups (including the ones registered later).
+     */
+    void applyDefaultPermissions(AnnotatedSubCommand subCommand) {
         if (subCommand.getPermission() == null) {
             subCommand.setPermission(getDefaultSubCommandPermission(subCommand));
         }
+        if (subCommand instanceof AnnotatedSubCommandGroup) {
+            ((AnnotatedSubCommandGroup) subCommand).setManager(this);
+        }
+    }
 
-        subCommands.add(subCommand);
+    void onGroupSubCommandsChange() {
+        invalidateSubCommandsCache();
     }
 
+    /**
+     * Returns the permission of the sub-commands registered without one, including the ones inside groups.
+     */
     protected String getDefaultSubCommandPermission(AnnotatedSubCommand subCommand) {
         return null;
     }
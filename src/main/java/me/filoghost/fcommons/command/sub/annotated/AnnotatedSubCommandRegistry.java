@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.sub.annotated;
+
+import me.filoghost.fcommons.Preconditions;
+import me.filoghost.fcommons.collection.CaseInsensitiveMap;
+import me.filoghost.fcommons.collection.CaseInsensitiveOpenHashMap;
+import me.filoghost.fcommons.command.sub.SubCommand;
+import me.filoghost.fcommons.command.sub.annotated.AnnotatedMethodSubCommand.MethodMetadata;
+
+import java.util.Comparator;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/*
+ * Sub-commands of a manager or of a group, sorted for display and indexed by name and aliases.
+ */
+final class AnnotatedSubCommandRegistry {
+
+    private final SortedSet<AnnotatedSubCommand> subCommands;
+    private final CaseInsensitiveMap<AnnotatedSubCommand> subCommandsByName; // Also contains aliases
+
+    AnnotatedSubCommandRegistry() {
+        this.subCommands = new TreeSet<>(Comparator
+                .comparing(AnnotatedSubCommand::getDisplayPriority).reversed()
+                .thenComparing(SubCommand::getName, String.CASE_INSENSITIVE_ORDER));
+        this.subCommandsByName = new CaseInsensitiveOpenHashMap<>();
+    }
+
+    static void scanMethodsSubCommands(Object instance, Class<?> classToScan, Consumer<AnnotatedSubCommand> registrar) {
+        for (MethodMetadata methodMetadata : SubCommandMethodsCache.getSubCommandMethods(classToScan)) {
+            registrar.accept(new AnnotatedMethodSubCommand(instance, methodMetadata));
+        }
+    }
+
+    AnnotatedSubCommand getByName(String name) {
+        return subCommandsByName.get(name);
+    }
+
+    SortedSet<AnnotatedSubCommand> getAll() {
+        return subCommands;
+    }
+
+    void checkNotRegistered(AnnotatedSubCommand subCommand) {
+        Preconditions.notNull(subCommand, "subCommand");
+        subCommand.validate();
+        Preconditions.checkState(!subCommandsByName.containsKey(subCommand.getName()),
+                "subCommand with same name already registered");
+        for (String alias : subCommand.getAliases()) {
+            Preconditions.notEmpty(alias, "alias");
+            Preconditions.checkState(!subCommandsByName.containsKey(alias),
+                    "subCommand with same name as alias \"" + alias + "\" already registered");
+        }
+    }
+
+    void register(AnnotatedSubCommand subCommand) {
+        checkNotRegistered(subCommand);
+
+        subCommands.add(subCommand);
+        subCommandsByName.put(subCommand.getName(), subCommand);
+        for (String alias : subCommand.getAliases()) {
+            subCommandsByName.putIfAbsent(alias, subCommand);
+        }
+    }
+
+}
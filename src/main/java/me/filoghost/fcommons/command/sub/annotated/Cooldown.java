@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.sub.annotated;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allows each player to use the sub-command a number of times per period, see
+ * {@link me.filoghost.fcommons.command.CommandCooldown}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Cooldown {
+
+    long value();
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    int uses() default 1;
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.sub.annotated;
+
+import com.google.common.collect.ImmutableList;
+import me.filoghost.fcommons.command.sub.annotated.AnnotatedMethodSubCommand.MethodMetadata;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * Global cache of the sub-command methods of each class, including the ones inherited from superclasses and
+ * interfaces, so that the methods are scanned only once even when many instances of the same class are created.
+ */
+final class SubCommandMethodsCache {
+
+    private static final ClassValue<List<MethodMetadata>> subCommandMethods = new ClassValue<List<MethodMetadata>>() {
+        @Override
+        protected List<MethodMetadata> computeValue(Class<?> type) {
+            return scanSubCommandMethods(type);
+        }
+    };
+
+    private SubCommandMethodsCache() {}
+
+    static List<MethodMetadata> getSubCommandMethods(Class<?> type) {
+        return subCommandMethods.get(type);
+    }
+
+    /*
+     * When a method is overridden, only the closest declaration with the @Name annotation is used, but the invocation
+     * is still dispatched to the overriding method.
+     */
+    private static List<MethodMetadata> scanSubCommandMethods(Class<?> type) {
+        if (type == Object.class) {
+            return ImmutableList.of();
+        }
+
+        List<MethodMetadata> result = new ArrayList<>();
+        Set<MethodSignature> signatures = new HashSet<>();
+
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(Name.class) && !method.isBridge() && !method.isSynthetic()) {
+                if (type.isInterface() && Modifier.isStatic(method.getModifiers())) {
+                    continue; // Static interface methods are not inherited
+                }
+                signatures.add(new MethodSignature(method));
+                result.add(new MethodMetadata(method));
+            }
+        }
+
+        List<Class<?>> supertypes = new ArrayList<>();
+        if (type.getSuperclass() != null) {
+            supertypes.add(type.getSuperclass());
+        }
+        supertypes.addAll(Arrays.asList(type.getInterfaces()));
+
+        for (Class<?> supertype : supertypes) {
+            for (MethodMetadata inheritedMethod : getSubCommandMethods(supertype)) {
+                if (signatures.add(new MethodSignature(inheritedMethod.getMethod()))) {
+                    result.add(inheritedMethod);
+                }
+            }
+        }
+
+        return ImmutableList.copyOf(result);
+    }
+
+
+    private static class MethodSignature {
+
+        private final String name;
+        private final List<Class<?>> parameterTypes;
+
+        private MethodSignature(Method method) {
+            this.name = method.getName();
+            this.parameterTypes = Arrays.asList(method.getParameterTypes());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MethodSignature)) {
+                return false;
+            }
+            MethodSignature other = (MethodSignature) obj;
+            return name.equals(other.name) && parameterTypes.equals(other.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + parameterTypes.hashCode();
+        }
+
+    }
+
+}
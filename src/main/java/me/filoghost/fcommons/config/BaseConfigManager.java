@@ -5,29 +5,45 @@
  */
 package me.filoghost.fcommons.config;
 
+import me.filoghost.fcommons.Preconditions;
 import me.filoghost.fcommons.config.mapped.MappedConfig;
 import me.filoghost.fcommons.config.mapped.MappedConfigLoader;
+import me.filoghost.fcommons.config.metrics.ConfigMetricsListener;
 
 import java.nio.file.Path;
 
 public class BaseConfigManager {
 
     protected final Path rootDataFolder;
+    private ConfigMetricsListener metricsListener;
 
     public BaseConfigManager(Path rootDataFolder) {
         this.rootDataFolder = rootDataFolder;
+        this.metricsListener = ConfigMetricsListener.NO_OP;
     }
 
     public Path getRootDataFolder() {
         return rootDataFolder;
     }
 
+    public ConfigMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Sets the listener used by the config loaders returned afterwards.
+     */
+    public void setMetricsListener(ConfigMetricsListener metricsListener) {
+        Preconditions.notNull(metricsListener, "metricsListener");
+        this.metricsListener = metricsListener;
+    }
+
     public ConfigLoader getConfigLoader(String fileName) {
         return getConfigLoader(rootDataFolder.resolve(fileName));
     }
 
     public ConfigLoader getConfigLoader(Path configPath) {
-        return new ConfigLoader(rootDataFolder, configPath);
+        return new ConfigLoader(rootDataFolder, configPath, metricsListener);
     }
 
     public <T extends MappedConfig> MappedConfigLoader<T> getMappedConfigLoader(String fileName, Class<T> mappedConfigClass) {
@@ -35,7 +51,7 @@ public class BaseConfigManager {
     }
 
     public <T extends MappedConfig> MappedConfigLoader<T> getMappedConfigLoader(Path configPath, Class<T> mappedConfigClass) {
-        return new MappedConfigLoader<>(rootDataFolder, configPath, mappedConfigClass);
+        return new MappedConfigLoader<>(rootDataFolder, configPath, mappedConfigClass, metricsListener);
     }
 
 }
@@ -8,6 +8,8 @@ package me.filoghost.fcommons.config;
 import me.filoghost.fcommons.Preconditions;
 import me.filoghost.fcommons.config.exception.ConfigLoadException;
 import me.filoghost.fcommons.config.exception.ConfigSaveException;
+import me.filoghost.fcommons.config.metrics.ConfigMetricsListener;
+import me.filoghost.fcommons.metrics.ThreadAllocation;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -16,6 +18,7 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -23,19 +26,30 @@ public class ConfigLoader {
 
     private final Path rootDataFolder;
     private final Path file;
+    private final ConfigMetricsListener metricsListener;
 
     public ConfigLoader(Path rootDataFolder, Path file) {
+        this(rootDataFolder, file, ConfigMetricsListener.NO_OP);
+    }
+
+    public ConfigLoader(Path rootDataFolder, Path file, ConfigMetricsListener metricsListener) {
         Preconditions.checkArgument(file.startsWith(rootDataFolder), "file \"" + file + "\""
                 + " must be inside \"" + rootDataFolder + "\"");
+        Preconditions.notNull(metricsListener, "metricsListener");
 
         this.rootDataFolder = rootDataFolder;
         this.file = file;
+        this.metricsListener = metricsListener;
     }
 
     public Path getFile() {
         return file;
     }
 
+    public ConfigMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
     public boolean fileExists() {
         return Files.isRegularFile(file);
     }
@@ -49,26 +63,66 @@ public class ConfigLoader {
         Preconditions.checkState(fileExists(), "\"" + file + "\" doesn't exist or is not a regular file");
 
         FileConfig config = new FileConfig(file);
+        boolean measure = metricsListener.isEnabled();
+        long startAllocatedBytes = measure ? ThreadAllocation.getAllocatedBytes() : -1;
+        long startNanos = System.nanoTime();
 
+        List<String> lines;
         try {
-            config.loadFromString(Files.readAllLines(file));
+            lines = Files.readAllLines(file);
         } catch (IOException e) {
             throw new ConfigLoadException(ConfigErrors.readIOException, e);
         }
 
+        long readEndNanos = System.nanoTime();
+        config.loadFromString(lines);
+
+        if (measure) {
+            long parseEndNanos = System.nanoTime();
+            metricsListener.onLoad(
+                    file,
+                    getFileSize(),
+                    readEndNanos - startNanos,
+                    parseEndNanos - readEndNanos,
+                    ThreadAllocation.getAllocatedBytesSince(startAllocatedBytes));
+        }
+
         return config;
     }
 
     public void save(Config config) throws ConfigSaveException {
         createParentDirectory();
 
+        boolean measure = metricsListener.isEnabled();
+        long startAllocatedBytes = measure ? ThreadAllocation.getAllocatedBytes() : -1;
+        long startNanos = System.nanoTime();
+
         String data = config.saveToString();
+        long serializeEndNanos = System.nanoTime();
 
         try (BufferedWriter writer = Files.newBufferedWriter(file)) {
             writer.write(data);
         } catch (IOException e) {
             throw new ConfigSaveException(ConfigErrors.writeDataIOException, e);
         }
+
+        if (measure) {
+            long writeEndNanos = System.nanoTime();
+            metricsListener.onSave(
+                    file,
+                    getFileSize(),
+                    serializeEndNanos - startNanos,
+                    writeEndNanos - serializeEndNanos,
+                    ThreadAllocation.getAllocatedBytesSince(startAllocatedBytes));
+        }
+    }
+
+    private long getFileSize() {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
     }
 
     public void createDefault() throws ConfigSaveException {
@@ -57,6 +57,10 @@ public final class ConfigPath {
         return getPart(0);
     }
 
+    public ConfigPath resolve(ConfigPath other) {
+        return new ConfigPath(ImmutableList.<String>builder().addAll(parts).addAll(other.parts).build());
+    }
+
     public ConfigPath replace(String target, String replacement) {
         Builder<String> pathPartsBuilder = ImmutableList.builder();
         for (String pathPart : parts) {
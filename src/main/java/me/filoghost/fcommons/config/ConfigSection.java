@@ -7,6 +7,7 @@ package me.filoghost.fcommons.config;
 
 import me.filoghost.fcommons.config.exception.InvalidConfigValueException;
 import me.filoghost.fcommons.config.exception.MissingConfigValueException;
+import me.filoghost.fcommons.config.types.ConfigListView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -310,6 +311,24 @@ public class ConfigSection extends BaseConfigSection {
         setStringList(ConfigPath.dotDelimited(path), value);
     }
 
+    public ConfigListView<String> getStringListView(ConfigPath path) {
+        return getOrDefault(path, ConfigType.STRING_LIST_VIEW, null);
+    }
+
+    public ConfigListView<String> getStringListView(String path) {
+        return getStringListView(ConfigPath.dotDelimited(path));
+    }
+
+    public ConfigListView<String> getRequiredStringListView(ConfigPath path)
+            throws MissingConfigValueException, InvalidConfigValueException {
+        return getRequired(path, ConfigType.STRING_LIST_VIEW);
+    }
+
+    public ConfigListView<String> getRequiredStringListView(String path)
+            throws MissingConfigValueException, InvalidConfigValueException {
+        return getRequiredStringListView(ConfigPath.dotDelimited(path));
+    }
+
     /*
      * Getters and setters with specialized type: List<ConfigSection>
      */
@@ -346,4 +365,22 @@ public class ConfigSection extends BaseConfigSection {
         setSectionList(ConfigPath.dotDelimited(path), value);
     }
 
+    public ConfigListView<ConfigSection> getSectionListView(ConfigPath path) {
+        return getOrDefault(path, ConfigType.SECTION_LIST_VIEW, null);
+    }
+
+    public ConfigListView<ConfigSection> getSectionListView(String path) {
+        return getSectionListView(ConfigPath.dotDelimited(path));
+    }
+
+    public ConfigListView<ConfigSection> getRequiredSectionListView(ConfigPath path)
+            throws MissingConfigValueException, InvalidConfigValueException {
+        return getRequired(path, ConfigType.SECTION_LIST_VIEW);
+    }
+
+    public ConfigListView<ConfigSection> getRequiredSectionListView(String path)
+            throws MissingConfigValueException, InvalidConfigValueException {
+        return getRequiredSectionListView(ConfigPath.dotDelimited(path));
+    }
+
 }
@@ -8,11 +8,14 @@ package me.filoghost.fcommons.config;
 import me.filoghost.fcommons.config.exception.InvalidConfigValueException;
 import me.filoghost.fcommons.config.exception.MissingConfigValueException;
 import me.filoghost.fcommons.config.types.BooleanConfigType;
+import me.filoghost.fcommons.config.types.ConfigListView;
 import me.filoghost.fcommons.config.types.ListConfigType;
+import me.filoghost.fcommons.config.types.ListViewConfigType;
 import me.filoghost.fcommons.config.types.NumberConfigType;
 import me.filoghost.fcommons.config.types.SectionConfigType;
 import me.filoghost.fcommons.config.types.StringConfigType;
 import me.filoghost.fcommons.config.types.WrappedListConfigType;
+import me.filoghost.fcommons.config.types.WrappedListViewConfigType;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -37,6 +40,12 @@ public abstract class ConfigType<T> {
     public static final ConfigType<List<Integer>> INTEGER_LIST = new ListConfigType<>("INTEGER_LIST", INTEGER);
     public static final ConfigType<List<ConfigSection>> SECTION_LIST = new ListConfigType<>("SECTION_LIST", SECTION);
 
+    // Read-only views that convert elements on access, without copying the list
+    public static final ConfigType<ConfigListView<ConfigValue>> LIST_VIEW = new WrappedListViewConfigType("LIST_VIEW");
+    public static final ConfigType<ConfigListView<String>> STRING_LIST_VIEW = new ListViewConfigType<>("STRING_LIST_VIEW", STRING);
+    public static final ConfigType<ConfigListView<ConfigSection>> SECTION_LIST_VIEW =
+            new ListViewConfigType<>("SECTION_LIST_VIEW", SECTION);
+
 
     private final String name;
     private final String notConvertibleErrorMessage;
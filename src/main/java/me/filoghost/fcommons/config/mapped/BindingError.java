@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.config.mapped;
+
+import me.filoghost.fcommons.config.ConfigPath;
+import me.filoghost.fcommons.config.exception.ConfigException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An invalid value or a failed validation found while loading a mapped config.
+ */
+public final class BindingError {
+
+    private final ConfigPath configPath;
+    private final ConfigException exception;
+
+    BindingError(@Nullable ConfigPath configPath, @NotNull ConfigException exception) {
+        this.configPath = configPath;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns the full path of the value from the root of the config, or null if the error is not related to a
+     * specific value.
+     */
+    public @Nullable ConfigPath getConfigPath() {
+        return configPath;
+    }
+
+    public @NotNull ConfigException getException() {
+        return exception;
+    }
+
+    public String getMessage() {
+        if (configPath != null) {
+            return "Invalid \"" + configPath + "\", " + exception.getMessage();
+        } else {
+            return exception.getMessage();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.config.mapped;
+
+import com.google.common.collect.ImmutableList;
+import me.filoghost.fcommons.config.ConfigPath;
+import me.filoghost.fcommons.config.exception.ConfigException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the errors found while loading a mapped config, in the order they are found.
+ */
+public final class BindingErrors {
+
+    private final List<BindingError> errors = new ArrayList<>();
+
+    public void add(@Nullable ConfigPath configPath, @NotNull ConfigException exception) {
+        errors.add(new BindingError(configPath, exception));
+    }
+
+    public int size() {
+        return errors.size();
+    }
+
+    public boolean isEmpty() {
+        return errors.isEmpty();
+    }
+
+    public ImmutableList<BindingError> toList() {
+        return ImmutableList.copyOf(errors);
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.config.mapped;
+
+import com.google.common.collect.ImmutableList;
+import me.filoghost.fcommons.logging.ErrorCollector;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+
+/**
+ * The result of loading a mapped config without stopping at the first error: the mapped object, where invalid
+ * values are left to their defaults, and all the errors that were found.
+ */
+public final class BindingResult<T> {
+
+    private final T mappedObject;
+    private final ImmutableList<BindingError> errors;
+    private final Path sourceFile;
+
+    BindingResult(@NotNull T mappedObject, @NotNull BindingErrors errors, @NotNull Path sourceFile) {
+        this.mappedObject = mappedObject;
+        this.errors = errors.toList();
+        this.sourceFile = sourceFile;
+    }
+
+    public @NotNull T getMappedObject() {
+        return mappedObject;
+    }
+
+    public @NotNull ImmutableList<BindingError> getErrors() {
+        return errors;
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    public void reportTo(@NotNull ErrorCollector errorCollector) {
+        for (BindingError error : errors) {
+            errorCollector.add(
+                    error.getException().getCause(),
+                    "error in config file \"" + sourceFile.getFileName() + "\"",
+                    error.getMessage());
+        }
+    }
+
+}
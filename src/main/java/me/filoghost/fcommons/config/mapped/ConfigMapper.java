@@ -16,6 +16,7 @@ import me.filoghost.fcommons.config.exception.ConfigValueException;
 import me.filoghost.fcommons.reflection.ReflectField;
 import me.filoghost.fcommons.reflection.TypeInfo;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Modifier;
 import java.util.LinkedHashMap;
@@ -26,17 +27,24 @@ public class ConfigMapper<T extends MappedConfigSection> {
 
     private final TypeInfo<T> mappedTypeInfo;
     private final List<MappedField<?>> mappedFields;
+    private final List<MappedField<?>> parallelMappedFields;
 
     public ConfigMapper(TypeInfo<T> typeInfo) throws ConfigMappingException {
         try {
             this.mappedTypeInfo = typeInfo;
             ImmutableList.Builder<MappedField<?>> mappedFieldsBuilder = ImmutableList.builder();
+            ImmutableList.Builder<MappedField<?>> parallelMappedFieldsBuilder = ImmutableList.builder();
             for (ReflectField<?> field : typeInfo.getDeclaredFields()) {
                 if (isMappable(field)) {
-                    mappedFieldsBuilder.add(new MappedField<>(field));
+                    MappedField<?> mappedField = new MappedField<>(field);
+                    mappedFieldsBuilder.add(mappedField);
+                    if (mappedField.isParallelLoadable()) {
+                        parallelMappedFieldsBuilder.add(mappedField);
+                    }
                 }
             }
             this.mappedFields = mappedFieldsBuilder.build();
+            this.parallelMappedFields = parallelMappedFieldsBuilder.build();
         } catch (ReflectiveOperationException e) {
             throw new ConfigMappingException(ConfigErrors.mapperReflectionException(typeInfo), e);
         }
@@ -71,12 +79,58 @@ public class ConfigMapper<T extends MappedConfigSection> {
     }
 
     public void setFieldsFromConfig(@NotNull T mappedObject, @NotNull ConfigSection config) throws ConfigMappingException, ConfigValidateException, ConfigValueException {
-        for (MappedField<?> mappedField : mappedFields) {
-            mappedField.setFieldValueFromConfig(mappedObject, config);
+        if (parallelMappedFields.size() >= 2) {
+            setFieldsFromConfigParallel(mappedObject, config);
+        } else {
+            for (MappedField<?> mappedField : mappedFields) {
+                mappedField.setFieldValueFromConfig(mappedObject, config);
+            }
         }
         mappedObject.afterLoad();
     }
 
+    /**
+     * Sets the fields like {@link #setFieldsFromConfig(MappedConfigSection, ConfigSection)}, but adds invalid values
+     * and failed validations to the given errors instead of stopping at the first one. The {@code afterLoad()} hook
+     * is invoked only if all the fields of the section are valid.
+     */
+    public void setFieldsFromConfigCollectingErrors(
+            @NotNull T mappedObject,
+            @NotNull ConfigSection config,
+            @Nullable ConfigPath sectionPath,
+            @NotNull BindingErrors errors) throws ConfigMappingException {
+        int previousErrors = errors.size();
+
+        for (MappedField<?> mappedField : mappedFields) {
+            mappedField.setFieldValueFromConfigCollectingErrors(mappedObject, config, sectionPath, errors);
+        }
+
+        if (errors.size() == previousErrors) {
+            try {
+                mappedObject.afterLoad();
+            } catch (ConfigValidateException e) {
+                errors.add(sectionPath, e);
+            }
+        }
+    }
+
+    private void setFieldsFromConfigParallel(@NotNull T mappedObject, @NotNull ConfigSection config)
+            throws ConfigMappingException, ConfigValidateException, ConfigValueException {
+        ParallelBinding<Object> binding = ParallelBinding.bindAll(parallelMappedFields.size(),
+                index -> parallelMappedFields.get(index).readFieldValueFromConfig(config));
+
+        // Write fields in declaration order, so that the first error is the same of a sequential load
+        int parallelIndex = 0;
+        for (MappedField<?> mappedField : mappedFields) {
+            if (mappedField.isParallelLoadable()) {
+                mappedField.setFieldValue(mappedObject, binding.get(parallelIndex));
+                parallelIndex++;
+            } else {
+                mappedField.setFieldValueFromConfig(mappedObject, config);
+            }
+        }
+    }
+
     private boolean isMappable(ReflectField<?> field) {
         int modifiers = field.getModifiers();
 
@@ -14,6 +14,8 @@ import me.filoghost.fcommons.config.exception.ConfigLoadException;
 import me.filoghost.fcommons.config.exception.ConfigMappingException;
 import me.filoghost.fcommons.config.exception.ConfigSaveException;
 import me.filoghost.fcommons.config.exception.ConfigValueException;
+import me.filoghost.fcommons.config.metrics.ConfigMetricsListener;
+import me.filoghost.fcommons.metrics.ThreadAllocation;
 import me.filoghost.fcommons.reflection.TypeInfo;
 import org.jetbrains.annotations.NotNull;
 
@@ -30,8 +32,16 @@ public class MappedConfigLoader<T extends MappedConfig> {
     private Map<ConfigPath, ConfigValue> defaultValues;
 
     public MappedConfigLoader(Path rootDataFolder, Path configPath, Class<T> mappedConfigClass) {
+        this(rootDataFolder, configPath, mappedConfigClass, ConfigMetricsListener.NO_OP);
+    }
+
+    public MappedConfigLoader(
+            Path rootDataFolder,
+            Path configPath,
+            Class<T> mappedConfigClass,
+            ConfigMetricsListener metricsListener) {
         this.mappedTypeInfo = TypeInfo.of(mappedConfigClass);
-        this.configLoader = new ConfigLoader(rootDataFolder, configPath);
+        this.configLoader = new ConfigLoader(rootDataFolder, configPath, metricsListener);
     }
 
     protected ConfigMapper<T> getMapper() throws ConfigMappingException {
@@ -43,11 +53,13 @@ public class MappedConfigLoader<T extends MappedConfig> {
 
     public @NotNull T load() throws ConfigLoadException {
         Config config = configLoader.load();
+        BindMeasurement bindMeasurement = startBindMeasurement();
 
         try {
             T mappedObject = getMapper().newMappedObjectInstance();
             mappedObject.beforeLoad(config);
             getMapper().setFieldsFromConfig(mappedObject, config);
+            bindMeasurement.end();
             return mappedObject;
         } catch (ConfigMappingException e) {
             throw new ConfigLoadException(e.getMessage(), e);
@@ -56,8 +68,29 @@ public class MappedConfigLoader<T extends MappedConfig> {
         }
     }
 
+    /**
+     * Loads the config like {@link #load()}, but without stopping at the first invalid value or failed validation.
+     * All the errors are returned together with the mapped object, where invalid values are left to their defaults.
+     */
+    public @NotNull BindingResult<T> loadCollectingErrors() throws ConfigLoadException {
+        Config config = configLoader.load();
+        BindMeasurement bindMeasurement = startBindMeasurement();
+
+        try {
+            T mappedObject = getMapper().newMappedObjectInstance();
+            mappedObject.beforeLoad(config);
+            BindingErrors errors = new BindingErrors();
+            getMapper().setFieldsFromConfigCollectingErrors(mappedObject, config, null, errors);
+            bindMeasurement.end();
+            return new BindingResult<>(mappedObject, errors, getFile());
+        } catch (ConfigMappingException e) {
+            throw new ConfigLoadException(e.getMessage(), e);
+        }
+    }
+
     public @NotNull T init() throws ConfigLoadException, ConfigSaveException {
         Config config = configLoader.init();
+        BindMeasurement bindMeasurement = startBindMeasurement();
 
         try {
             T mappedObject = getMapper().newMappedObjectInstance();
@@ -71,6 +104,7 @@ public class MappedConfigLoader<T extends MappedConfig> {
             boolean addedNewDefaultValues = addMissingDefaultValues(config, defaultValues);
 
             getMapper().setFieldsFromConfig(mappedObject, config);
+            bindMeasurement.end();
 
             if (modifiedBeforeLoad || addedNewDefaultValues) {
                 saveInternal(mappedObject, config, false);
@@ -139,4 +173,33 @@ public class MappedConfigLoader<T extends MappedConfig> {
         return configLoader.getFile();
     }
 
+    private BindMeasurement startBindMeasurement() {
+        return new BindMeasurement(configLoader.getMetricsListener());
+    }
+
+
+    private class BindMeasurement {
+
+        private final ConfigMetricsListener metricsListener;
+        private final long startAllocatedBytes;
+        private final long startNanos;
+
+        private BindMeasurement(ConfigMetricsListener metricsListener) {
+            this.metricsListener = metricsListener;
+            this.startAllocatedBytes = metricsListener.isEnabled() ? ThreadAllocation.getAllocatedBytes() : -1;
+            this.startNanos = System.nanoTime();
+        }
+
+        private void end() {
+            if (metricsListener.isEnabled()) {
+                metricsListener.onBind(
+                        getFile(),
+                        mappedTypeInfo.getTypeClass(),
+                        System.nanoTime() - startNanos,
+                        ThreadAllocation.getAllocatedBytesSince(startAllocatedBytes));
+            }
+        }
+
+    }
+
 }
@@ -90,20 +90,38 @@ public class MappedField<T> {
     }
 
     public void setFieldValueFromConfig(@NotNull Object mappedObject, @NotNull ConfigSection config) throws ConfigMappingException, ConfigValidateException, ConfigValueException {
+        setFieldValue(mappedObject, readFieldValueFromConfig(config));
+    }
+
+    /**
+     * Converts the config value of this field, without writing it to the mapped object. Does not modify any shared
+     * state, so it can be invoked concurrently.
+     */
+    public @Nullable T readFieldValueFromConfig(@NotNull ConfigSection config)
+            throws ConfigMappingException, ConfigValidateException, ConfigValueException {
         ConfigValue configValue = config.get(configPath);
 
         try {
             T fieldValue = converter.toFieldValue(configValue, required);
-            if (fieldValue == null) {
-                return;
-            }
+            return applyFieldValueModifiers(fieldValue);
 
-            for (Annotation annotation : annotations) {
-                fieldValue = applyFieldValueModifiers(fieldValue, annotation);
-            }
+        } catch (ConfigMappingException e) {
+            // Display field information in exception
+            throw new ConfigMappingException(ConfigErrors.conversionFailed(this), e);
+        }
+    }
 
-            // Field is written only if new value is not null (default field value is kept)
-            writeToObject(mappedObject, fieldValue);
+    public void setFieldValueFromConfigCollectingErrors(
+            @NotNull Object mappedObject,
+            @NotNull ConfigSection config,
+            @Nullable ConfigPath sectionPath,
+            @NotNull BindingErrors errors) throws ConfigMappingException {
+        ConfigValue configValue = config.get(configPath);
+        ConfigPath fullConfigPath = sectionPath != null ? sectionPath.resolve(configPath) : configPath;
+
+        try {
+            T fieldValue = converter.toFieldValueCollectingErrors(configValue, required, fullConfigPath, errors);
+            setFieldValue(mappedObject, applyFieldValueModifiers(fieldValue));
 
         } catch (ConfigMappingException e) {
             // Display field information in exception
@@ -111,6 +129,18 @@ public class MappedField<T> {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    public void setFieldValue(@NotNull Object mappedObject, @Nullable Object fieldValue) throws ConfigMappingException {
+        // Field is written only if new value is not null (default field value is kept)
+        if (fieldValue != null) {
+            writeToObject(mappedObject, (T) fieldValue);
+        }
+    }
+
+    public boolean isParallelLoadable() {
+        return converter.getParallelLoad() != null;
+    }
+
     private @Nullable T readFromObject(@NotNull Object mappedObject) throws ConfigMappingException {
         try {
             return field.get(mappedObject);
@@ -127,6 +157,17 @@ public class MappedField<T> {
         }
     }
 
+    private @Nullable T applyFieldValueModifiers(@Nullable T fieldValue) {
+        if (fieldValue == null) {
+            return null;
+        }
+
+        for (Annotation annotation : annotations) {
+            fieldValue = applyFieldValueModifiers(fieldValue, annotation);
+        }
+        return fieldValue;
+    }
+
     @SuppressWarnings("unchecked")
     private <F, A extends Annotation> F applyFieldValueModifiers(@NotNull F fieldValue, @NotNull A annotation) {
         for (FieldValueModifier<?, ?> modifier : VALUE_MODIFIERS) {
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.config.mapped;
+
+import me.filoghost.fcommons.config.exception.ConfigMappingException;
+import me.filoghost.fcommons.config.exception.ConfigValidateException;
+import me.filoghost.fcommons.config.exception.ConfigValueException;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Binds independent values with fork-join parallelism. Results and errors are stored by index, so that they can be
+ * read back in the same order of a sequential binding.
+ */
+public final class ParallelBinding<T> {
+
+    private static final int TASKS_PER_THREAD = 4;
+
+    private final Object[] results;
+    private final Throwable[] errors;
+
+    private ParallelBinding(int count) {
+        this.results = new Object[count];
+        this.errors = new Throwable[count];
+    }
+
+    public static <T> ParallelBinding<T> bindAll(int count, Binder<T> binder) {
+        ParallelBinding<T> binding = new ParallelBinding<>(count);
+        int batchSize = Math.max(1, count / (ForkJoinPool.getCommonPoolParallelism() * TASKS_PER_THREAD));
+        new BindTask(binding.results, binding.errors, binder, 0, count, batchSize).invoke();
+        return binding;
+    }
+
+    public int size() {
+        return results.length;
+    }
+
+    /**
+     * Returns the result at the given index, or throws the exception that was thrown while binding it.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) throws ConfigMappingException, ConfigValidateException, ConfigValueException {
+        Throwable error = errors[index];
+        if (error != null) {
+            if (error instanceof ConfigMappingException) {
+                throw (ConfigMappingException) error;
+            } else if (error instanceof ConfigValidateException) {
+                throw (ConfigValidateException) error;
+            } else if (error instanceof ConfigValueException) {
+                throw (ConfigValueException) error;
+            } else if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            } else if (error instanceof Error) {
+                throw (Error) error;
+            } else {
+                throw new ConfigMappingException("unexpected error during parallel binding", error);
+            }
+        }
+        return (T) results[index];
+    }
+
+
+    @FunctionalInterface
+    public interface Binder<T> {
+
+        T bind(int index) throws ConfigMappingException, ConfigValidateException, ConfigValueException;
+
+    }
+
+
+    private static class BindTask extends RecursiveAction {
+
+        private final Object[] results;
+        private final Throwable[] errors;
+        private final Binder<?> binder;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int batchSize;
+
+        private BindTask(Object[] results, Throwable[] errors, Binder<?> binder, int fromIndex, int toIndex, int batchSize) {
+            this.results = results;
+            this.errors = errors;
+            this.binder = binder;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (toIndex - fromIndex <= batchSize) {
+                for (int i = fromIndex; i < toIndex; i++) {
+                    try {
+                        results[i] = binder.bind(i);
+                    } catch (Throwable t) {
+                        errors[i] = t;
+                    }
+                }
+            } else {
+                int middleIndex = (fromIndex + toIndex) >>> 1;
+                invokeAll(
+                        new BindTask(results, errors, binder, fromIndex, middleIndex, batchSize),
+                        new BindTask(results, errors, binder, middleIndex, toIndex, batchSize));
+            }
+        }
+
+    }
+
+}
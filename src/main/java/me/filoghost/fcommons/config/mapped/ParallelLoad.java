@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.config.mapped;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares that the annotated mapped section can be loaded concurrently, which requires its
+ * {@link MappedConfigSection#afterLoad()} hook to be thread-safe.
+ * <p>
+ * Lists with at least {@link #minListSize()} elements of the annotated type, and sibling fields of the annotated
+ * type, are loaded in parallel. Results and errors are reported in the same order of a sequential load.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ParallelLoad {
+
+    int minListSize() default 256;
+
+}
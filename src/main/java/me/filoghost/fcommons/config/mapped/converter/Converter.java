@@ -5,13 +5,16 @@
  */
 package me.filoghost.fcommons.config.mapped.converter;
 
+import me.filoghost.fcommons.config.ConfigPath;
 import me.filoghost.fcommons.config.ConfigType;
 import me.filoghost.fcommons.config.ConfigValue;
 import me.filoghost.fcommons.config.exception.ConfigMappingException;
 import me.filoghost.fcommons.config.exception.ConfigValidateException;
+import me.filoghost.fcommons.config.exception.ConfigValueException;
+import me.filoghost.fcommons.config.mapped.BindingErrors;
+import me.filoghost.fcommons.config.mapped.ParallelLoad;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import me.filoghost.fcommons.config.exception.ConfigValueException;
 
 public abstract class Converter<F, C> {
 
@@ -34,12 +37,7 @@ public abstract class Converter<F, C> {
 
     public final @Nullable F toFieldValue(@NotNull ConfigValue wrappedConfigValue, boolean required)
             throws ConfigMappingException, ConfigValidateException, ConfigValueException {
-        C configValue;
-        if (required) {
-            configValue = wrappedConfigValue.asRequired(configType);
-        } else {
-            configValue = wrappedConfigValue.as(configType);
-        }
+        C configValue = unwrapConfigValue(wrappedConfigValue, required);
         if (configValue != null) {
             return toFieldValue0(configValue, required);
         } else {
@@ -47,6 +45,31 @@ public abstract class Converter<F, C> {
         }
     }
 
+    /**
+     * Converts the config value like {@link #toFieldValue(ConfigValue, boolean)}, but adds invalid values and
+     * failed validations to the given errors instead of throwing them, returning null for the invalid value.
+     */
+    public @Nullable F toFieldValueCollectingErrors(
+            @NotNull ConfigValue wrappedConfigValue,
+            boolean required,
+            @NotNull ConfigPath configPath,
+            @NotNull BindingErrors errors) throws ConfigMappingException {
+        try {
+            return toFieldValue(wrappedConfigValue, required);
+        } catch (ConfigValueException | ConfigValidateException e) {
+            errors.add(configPath, e);
+            return null;
+        }
+    }
+
+    protected final @Nullable C unwrapConfigValue(@NotNull ConfigValue wrappedConfigValue, boolean required) throws ConfigValueException {
+        if (required) {
+            return wrappedConfigValue.asRequired(configType);
+        } else {
+            return wrappedConfigValue.as(configType);
+        }
+    }
+
     protected abstract @NotNull F toFieldValue0(@NotNull C configValue, boolean required)
             throws ConfigMappingException, ConfigValidateException, ConfigValueException;
 
@@ -66,4 +89,12 @@ public abstract class Converter<F, C> {
 
     protected abstract boolean equalsConfig0(@NotNull F fieldValue, @NotNull C configValue) throws ConfigMappingException;
 
+    /**
+     * Returns the parallel load settings of the mapped sections produced by this converter, or null if they must
+     * be loaded sequentially.
+     */
+    public @Nullable ParallelLoad getParallelLoad() {
+        return null;
+    }
+
 }
@@ -5,12 +5,16 @@
  */
 package me.filoghost.fcommons.config.mapped.converter;
 
+import me.filoghost.fcommons.config.ConfigPath;
 import me.filoghost.fcommons.config.ConfigType;
 import me.filoghost.fcommons.config.ConfigValue;
 import me.filoghost.fcommons.config.exception.ConfigMappingException;
 import me.filoghost.fcommons.config.exception.ConfigValidateException;
 import me.filoghost.fcommons.config.exception.ConfigValueException;
+import me.filoghost.fcommons.config.mapped.BindingErrors;
 import me.filoghost.fcommons.config.mapped.ConverterRegistry;
+import me.filoghost.fcommons.config.mapped.ParallelBinding;
+import me.filoghost.fcommons.config.mapped.ParallelLoad;
 import me.filoghost.fcommons.reflection.TypeInfo;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -47,6 +51,11 @@ public class ListConverter<E> extends Converter<List<E>, List<ConfigValue>> {
     @Override
     protected @NotNull List<@Nullable E> toFieldValue0(@NotNull List<@NotNull ConfigValue> configList, boolean required)
             throws ConfigMappingException, ConfigValidateException, ConfigValueException {
+        ParallelLoad parallelLoad = elementConverter.getParallelLoad();
+        if (parallelLoad != null && configList.size() >= parallelLoad.minListSize()) {
+            return toFieldValueParallel(configList);
+        }
+
         List<@Nullable E> fieldList = new ArrayList<>();
 
         for (ConfigValue configElement : configList) {
@@ -59,6 +68,63 @@ public class ListConverter<E> extends Converter<List<E>, List<ConfigValue>> {
         return fieldList;
     }
 
+    private @NotNull List<@Nullable E> toFieldValueParallel(@NotNull List<@NotNull ConfigValue> configList)
+            throws ConfigMappingException, ConfigValidateException, ConfigValueException {
+        List<ConfigValue> validConfigList = new ArrayList<>(configList.size());
+
+        for (ConfigValue configElement : configList) {
+            if (elementConverter.isValidConfigValue(configElement)) {
+                validConfigList.add(configElement);
+            }
+        }
+
+        ParallelBinding<E> binding = ParallelBinding.bindAll(validConfigList.size(),
+                index -> elementConverter.toFieldValue(validConfigList.get(index), false));
+
+        // Read results in order, so that the first error is the same of a sequential load
+        List<@Nullable E> fieldList = new ArrayList<>(binding.size());
+        for (int i = 0; i < binding.size(); i++) {
+            fieldList.add(binding.get(i));
+        }
+
+        return fieldList;
+    }
+
+    @Override
+    public @Nullable List<E> toFieldValueCollectingErrors(
+            @NotNull ConfigValue wrappedConfigValue,
+            boolean required,
+            @NotNull ConfigPath configPath,
+            @NotNull BindingErrors errors) throws ConfigMappingException {
+        List<ConfigValue> configList;
+        try {
+            configList = unwrapConfigValue(wrappedConfigValue, required);
+        } catch (ConfigValueException e) {
+            errors.add(configPath, e);
+            return null;
+        }
+        if (configList == null) {
+            return null;
+        }
+
+        // Invalid elements are skipped, like elements of the wrong type
+        List<@Nullable E> fieldList = new ArrayList<>();
+
+        for (int i = 0; i < configList.size(); i++) {
+            ConfigValue configElement = configList.get(i);
+            if (elementConverter.isValidConfigValue(configElement)) {
+                ConfigPath elementPath = configPath.resolve(ConfigPath.literal(Integer.toString(i)));
+                int previousErrors = errors.size();
+                E fieldValue = elementConverter.toFieldValueCollectingErrors(configElement, false, elementPath, errors);
+                if (errors.size() == previousErrors) {
+                    fieldList.add(fieldValue);
+                }
+            }
+        }
+
+        return fieldList;
+    }
+
     @Override
     protected boolean equalsConfig0(@NotNull List<@Nullable E> fieldList, @NotNull List<@NotNull ConfigValue> configList) throws ConfigMappingException {
         // Skip elements that would be skipped during read
@@ -86,6 +152,11 @@ public class ListConverter<E> extends Converter<List<E>, List<ConfigValue>> {
         return true;
     }
 
+    @Override
+    public @Nullable ParallelLoad getParallelLoad() {
+        return elementConverter.getParallelLoad();
+    }
+
     public static boolean supports(Class<?> typeClass) {
         return typeClass == List.class;
     }
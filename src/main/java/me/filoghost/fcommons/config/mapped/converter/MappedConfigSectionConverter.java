@@ -5,23 +5,30 @@
  */
 package me.filoghost.fcommons.config.mapped.converter;
 
+import me.filoghost.fcommons.config.ConfigPath;
 import me.filoghost.fcommons.config.ConfigSection;
+import me.filoghost.fcommons.config.ConfigValue;
 import me.filoghost.fcommons.config.ConfigType;
 import me.filoghost.fcommons.config.exception.ConfigMappingException;
 import me.filoghost.fcommons.config.exception.ConfigValidateException;
 import me.filoghost.fcommons.config.exception.ConfigValueException;
+import me.filoghost.fcommons.config.mapped.BindingErrors;
 import me.filoghost.fcommons.config.mapped.ConfigMapper;
 import me.filoghost.fcommons.config.mapped.MappedConfigSection;
+import me.filoghost.fcommons.config.mapped.ParallelLoad;
 import me.filoghost.fcommons.reflection.TypeInfo;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class MappedConfigSectionConverter<T extends MappedConfigSection> extends Converter<T, ConfigSection> {
 
     private final ConfigMapper<T> configMapper;
+    private final ParallelLoad parallelLoad;
 
     public MappedConfigSectionConverter(TypeInfo<T> fieldTypeInfo) throws ConfigMappingException {
         super(ConfigType.SECTION);
         this.configMapper = new ConfigMapper<>(fieldTypeInfo);
+        this.parallelLoad = fieldTypeInfo.getTypeClass().getAnnotation(ParallelLoad.class);
     }
 
     @Override
@@ -38,11 +45,38 @@ public class MappedConfigSectionConverter<T extends MappedConfigSection> extends
         return mappedObject;
     }
 
+    @Override
+    public @Nullable T toFieldValueCollectingErrors(
+            @NotNull ConfigValue wrappedConfigValue,
+            boolean required,
+            @NotNull ConfigPath configPath,
+            @NotNull BindingErrors errors) throws ConfigMappingException {
+        ConfigSection configSection;
+        try {
+            configSection = unwrapConfigValue(wrappedConfigValue, required);
+        } catch (ConfigValueException e) {
+            errors.add(configPath, e);
+            return null;
+        }
+        if (configSection == null) {
+            return null;
+        }
+
+        T mappedObject = configMapper.newMappedObjectInstance();
+        configMapper.setFieldsFromConfigCollectingErrors(mappedObject, configSection, configPath, errors);
+        return mappedObject;
+    }
+
     @Override
     protected boolean equalsConfig0(@NotNull T fieldValue, @NotNull ConfigSection configSection) throws ConfigMappingException {
         return configMapper.equalsConfig(fieldValue, configSection);
     }
 
+    @Override
+    public @Nullable ParallelLoad getParallelLoad() {
+        return parallelLoad;
+    }
+
     public static boolean supports(Class<?> typeClass) {
         return MappedConfigSection.class.isAssignableFrom(typeClass);
     }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.config.metrics;
+
+import java.nio.file.Path;
+
+/**
+ * Receives timing and size measurements of config files being loaded, bound and saved. Times are in nanoseconds,
+ * allocated bytes are estimated with {@link me.filoghost.fcommons.metrics.ThreadAllocation}.
+ */
+public interface ConfigMetricsListener {
+
+    ConfigMetricsListener NO_OP = new ConfigMetricsListener() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * Returns false if measurements are not needed and should not be collected.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    default void onLoad(Path file, long fileBytes, long readNanos, long parseNanos, long allocatedBytes) {}
+
+    default void onBind(Path file, Class<?> mappedType, long bindNanos, long allocatedBytes) {}
+
+    default void onSave(Path file, long fileBytes, long serializeNanos, long writeNanos, long allocatedBytes) {}
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.config.metrics;
+
+import com.google.common.collect.ImmutableMap;
+import me.filoghost.fcommons.metrics.Histogram;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps in memory a histogram for each measurement, separately for each config file.
+ */
+public class InMemoryConfigMetrics implements ConfigMetricsListener {
+
+    private final Map<Path, FileMetrics> metricsByFile;
+
+    public InMemoryConfigMetrics() {
+        this.metricsByFile = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void onLoad(Path file, long fileBytes, long readNanos, long parseNanos, long allocatedBytes) {
+        FileMetrics fileMetrics = getOrCreate(file);
+        fileMetrics.loadedBytes.record(fileBytes);
+        fileMetrics.readNanos.record(readNanos);
+        fileMetrics.parseNanos.record(parseNanos);
+        fileMetrics.loadAllocatedBytes.record(allocatedBytes);
+    }
+
+    @Override
+    public void onBind(Path file, Class<?> mappedType, long bindNanos, long allocatedBytes) {
+        FileMetrics fileMetrics = getOrCreate(file);
+        fileMetrics.bindNanos.record(bindNanos);
+        fileMetrics.bindAllocatedBytes.record(allocatedBytes);
+    }
+
+    @Override
+    public void onSave(Path file, long fileBytes, long serializeNanos, long writeNanos, long allocatedBytes) {
+        FileMetrics fileMetrics = getOrCreate(file);
+        fileMetrics.savedBytes.record(fileBytes);
+        fileMetrics.serializeNanos.record(serializeNanos);
+        fileMetrics.writeNanos.record(writeNanos);
+        fileMetrics.saveAllocatedBytes.record(allocatedBytes);
+    }
+
+    private FileMetrics getOrCreate(Path file) {
+        return metricsByFile.computeIfAbsent(file, key -> new FileMetrics());
+    }
+
+    public @Nullable FileMetrics getFileMetrics(@NotNull Path file) {
+        return metricsByFile.get(file);
+    }
+
+    public @NotNull Map<Path, FileMetrics> getAllFileMetrics() {
+        return ImmutableMap.copyOf(metricsByFile);
+    }
+
+    public void reset() {
+        metricsByFile.clear();
+    }
+
+
+    public static class FileMetrics {
+
+        private final Histogram loadedBytes = new Histogram();
+        private final Histogram readNanos = new Histogram();
+        private final Histogram parseNanos = new Histogram();
+        private final Histogram loadAllocatedBytes = new Histogram();
+        private final Histogram bindNanos = new Histogram();
+        private final Histogram bindAllocatedBytes = new Histogram();
+        private final Histogram savedBytes = new Histogram();
+        private final Histogram serializeNanos = new Histogram();
+        private final Histogram writeNanos = new Histogram();
+        private final Histogram saveAllocatedBytes = new Histogram();
+
+        private FileMetrics() {}
+
+        public Histogram getLoadedBytes() {
+            return loadedBytes;
+        }
+
+        public Histogram getReadNanos() {
+            return readNanos;
+        }
+
+        public Histogram getParseNanos() {
+            return parseNanos;
+        }
+
+        public Histogram getLoadAllocatedBytes() {
+            return loadAllocatedBytes;
+        }
+
+        public Histogram getBindNanos() {
+            return bindNanos;
+        }
+
+        public Histogram getBindAllocatedBytes() {
+            return bindAllocatedBytes;
+        }
+
+        public Histogram getSavedBytes() {
+            return savedBytes;
+        }
+
+        public Histogram getSerializeNanos() {
+            return serializeNanos;
+        }
+
+        public Histogram getWriteNanos() {
+            return writeNanos;
+        }
+
+        public Histogram getSaveAllocatedBytes() {
+            return saveAllocatedBytes;
+        }
+
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.config.types;
+
+import com.google.common.collect.ImmutableList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Read-only view of a raw config list, where elements are converted on access instead of being copied upfront.
+ * <p>
+ * Iteration and index-based access convert the elements of the raw list directly. If some raw elements cannot be
+ * converted, the indexes of the valid ones are computed on the first index-based access. The indexes and the typed
+ * snapshot returned by {@link #getSnapshot()} are cached until {@link #invalidate()} is called.
+ */
+public final class ConfigListView<E> extends AbstractList<E> {
+
+    private static final int[] ALL_RAW_ELEMENTS = new int[0];
+
+    private final List<?> rawList;
+    private final Function<Object, @Nullable E> elementConverter; // Returns null for elements to skip
+
+    private volatile int[] rawIndexes; // Indexes of the valid raw elements, or ALL_RAW_ELEMENTS if none is skipped
+    private volatile ImmutableList<E> snapshot;
+
+    ConfigListView(@NotNull List<?> rawList, @NotNull Function<Object, @Nullable E> elementConverter) {
+        this.rawList = rawList;
+        this.elementConverter = elementConverter;
+    }
+
+    @Override
+    public @NotNull Iterator<E> iterator() {
+        ImmutableList<E> snapshot = this.snapshot;
+        if (snapshot != null) {
+            return snapshot.iterator();
+        }
+
+        return new ConvertingIterator();
+    }
+
+    @Override
+    public E get(int index) {
+        int[] rawIndexes = getRawIndexes();
+        if (rawIndexes == ALL_RAW_ELEMENTS) {
+            return elementConverter.apply(rawList.get(index));
+        }
+        if (index < 0 || index >= rawIndexes.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + rawIndexes.length);
+        }
+        return elementConverter.apply(rawList.get(rawIndexes[index]));
+    }
+
+    @Override
+    public int size() {
+        int[] rawIndexes = getRawIndexes();
+        return rawIndexes == ALL_RAW_ELEMENTS ? rawList.size() : rawIndexes.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    public @NotNull ImmutableList<E> getSnapshot() {
+        ImmutableList<E> snapshot = this.snapshot;
+        if (snapshot == null) {
+            ImmutableList.Builder<E> builder = ImmutableList.builder();
+            for (Object rawElement : rawList) {
+                E element = elementConverter.apply(rawElement);
+                if (element != null) {
+                    builder.add(element);
+                }
+            }
+            snapshot = builder.build();
+            this.snapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    private int[] getRawIndexes() {
+        int[] rawIndexes = this.rawIndexes;
+        if (rawIndexes == null) {
+            int[] validIndexes = new int[rawList.size()];
+            int validCount = 0;
+            for (int i = 0; i < validIndexes.length; i++) {
+                if (elementConverter.apply(rawList.get(i)) != null) {
+                    validIndexes[validCount++] = i;
+                }
+            }
+            rawIndexes = validCount == validIndexes.length ? ALL_RAW_ELEMENTS : Arrays.copyOf(validIndexes, validCount);
+            this.rawIndexes = rawIndexes;
+        }
+        return rawIndexes;
+    }
+
+    /**
+     * Discards the cached indexes and snapshot, to be used if the underlying raw list has been modified.
+     */
+    public void invalidate() {
+        this.rawIndexes = null;
+        this.snapshot = null;
+    }
+
+    public @NotNull List<E> toMutableList() {
+        return new ArrayList<>(getSnapshot());
+    }
+
+
+    private class ConvertingIterator implements Iterator<E> {
+
+        private final Iterator<?> rawIterator = rawList.iterator();
+        private E nextElement;
+
+        @Override
+        public boolean hasNext() {
+            while (nextElement == null && rawIterator.hasNext()) {
+                nextElement = elementConverter.apply(rawIterator.next());
+            }
+            return nextElement != null;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E element = nextElement;
+            nextElement = null;
+            return element;
+        }
+
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.config.types;
+
+import me.filoghost.fcommons.config.ConfigErrors;
+import me.filoghost.fcommons.config.ConfigType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ListViewConfigType<E> extends ConfigType<ConfigListView<E>> {
+
+    private final ConfigType<E> elementType;
+
+    public ListViewConfigType(String name, ConfigType<E> elementType) {
+        super(name, ConfigErrors.valueNotList);
+        this.elementType = elementType;
+    }
+
+    @Override
+    protected boolean isConvertibleRawValue(@Nullable Object rawValue) {
+        return rawValue instanceof List;
+    }
+
+    @Override
+    protected @NotNull ConfigListView<E> fromRawValue(@NotNull Object rawValue) {
+        return new ConfigListView<>((List<?>) rawValue, rawElement -> fromRawValueOrNull(elementType, rawElement));
+    }
+
+    @Override
+    protected @NotNull Object toRawValue(@NotNull ConfigListView<E> configValue) {
+        List<Object> rawValue = new ArrayList<>(configValue.size());
+
+        for (E configElement : configValue) {
+            rawValue.add(toRawValue(elementType, configElement));
+        }
+
+        return rawValue;
+    }
+
+}
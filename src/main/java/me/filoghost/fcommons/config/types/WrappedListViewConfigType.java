@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.config.types;
+
+import me.filoghost.fcommons.config.ConfigErrors;
+import me.filoghost.fcommons.config.ConfigType;
+import me.filoghost.fcommons.config.ConfigValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class WrappedListViewConfigType extends ConfigType<ConfigListView<ConfigValue>> {
+
+    public WrappedListViewConfigType(String name) {
+        super(name, ConfigErrors.valueNotList);
+    }
+
+    @Override
+    protected boolean isConvertibleRawValue(@Nullable Object rawValue) {
+        return rawValue instanceof List;
+    }
+
+    @Override
+    protected @NotNull ConfigListView<ConfigValue> fromRawValue(@NotNull Object rawValue) {
+        return new ConfigListView<>((List<?>) rawValue, ConfigType::wrapRawValue);
+    }
+
+    @Override
+    protected @NotNull Object toRawValue(@NotNull ConfigListView<ConfigValue> configValue) {
+        List<Object> rawValue = new ArrayList<>(configValue.size());
+
+        for (ConfigValue element : configValue) {
+            rawValue.add(getRawValue(element));
+        }
+
+        return rawValue;
+    }
+
+}
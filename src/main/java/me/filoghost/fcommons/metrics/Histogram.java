@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.metrics;
+
+import me.filoghost.fcommons.Preconditions;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of non-negative values with power-of-two buckets, where bucket {@code i} counts the values
+ * lower than {@code 2^i}. Percentiles are approximated by the upper bound of the bucket that contains them.
+ */
+public final class Histogram {
+
+    private static final int BUCKETS_COUNT = 64;
+
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final LongAdder sum;
+    private final AtomicLong max;
+
+    public Histogram() {
+        this.buckets = new AtomicLongArray(BUCKETS_COUNT);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    public void record(long value) {
+        if (value < 0) {
+            return;
+        }
+
+        buckets.incrementAndGet(getBucketIndex(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    private static int getBucketIndex(long value) {
+        return Math.min(BUCKETS_COUNT - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long count = getCount();
+        return count > 0 ? (double) getSum() / count : 0.0;
+    }
+
+    /**
+     * Returns an approximation of the given percentile, expressed as a number between 0 and 100.
+     */
+    public long getPercentile(double percentile) {
+        Preconditions.checkArgument(percentile >= 0 && percentile <= 100, "percentile must be between 0 and 100");
+
+        long[] counts = new long[BUCKETS_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long targetRank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long rank = 0;
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            rank += counts[i];
+            if (rank >= targetRank) {
+                // Upper bound of the bucket, but never more than the actual maximum
+                return Math.min(getBucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    private static long getBucketUpperBound(int bucketIndex) {
+        return bucketIndex >= 63 ? Long.MAX_VALUE : (1L << bucketIndex) - 1;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "Histogram [count=" + getCount()
+                + ", mean=" + getMean()
+                + ", p50=" + getPercentile(50)
+                + ", p99=" + getPercentile(99)
+                + ", max=" + getMax() + "]";
+    }
+
+}
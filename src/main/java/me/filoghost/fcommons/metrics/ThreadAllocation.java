@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Estimates the memory allocated by the current thread, when supported by the JVM.
+ * <p>
+ * Only the allocations of the calling thread are counted: work handed off to other threads, such as the parallel
+ * binding of large config lists, is not included and the result is an under-estimate.
+ */
+public final class ThreadAllocation {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = initThreadMXBean();
+
+    private static com.sun.management.ThreadMXBean initThreadMXBean() {
+        try {
+            ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean extendedThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+                if (extendedThreadMXBean.isThreadAllocatedMemorySupported()
+                        && extendedThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                    return extendedThreadMXBean;
+                }
+            }
+        } catch (Throwable t) {
+            // Ignore, not supported by the JVM
+        }
+        return null;
+    }
+
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    /**
+     * Returns the total bytes allocated so far by the current thread, or -1 if not supported.
+     */
+    public static long getAllocatedBytes() {
+        if (THREAD_MX_BEAN == null) {
+            return -1;
+        }
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns the bytes allocated by the current thread since the given value returned by
+     * {@link #getAllocatedBytes()}, or -1 if not supported.
+     */
+    public static long getAllocatedBytesSince(long startAllocatedBytes) {
+        if (startAllocatedBytes < 0) {
+            return -1;
+        }
+        return getAllocatedBytes() - startAllocatedBytes;
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.ping;
+
+import me.filoghost.fcommons.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves server addresses, caching the results for a limited time. Failed resolutions are not cached.
+ */
+public class AddressResolver {
+
+    private final Map<String, CachedAddress> cache;
+    private volatile long ttlNanos;
+
+    public AddressResolver(long ttl, @NotNull TimeUnit unit) {
+        this.cache = new ConcurrentHashMap<>();
+        setTtl(ttl, unit);
+    }
+
+    public void setTtl(long ttl, @NotNull TimeUnit unit) {
+        Preconditions.notNull(unit, "unit");
+        Preconditions.checkArgument(ttl >= 0, "ttl cannot be negative");
+        this.ttlNanos = unit.toNanos(ttl);
+    }
+
+    /**
+     * Returns the resolved address, blocking the calling thread if it is not cached.
+     */
+    public @NotNull InetSocketAddress resolve(@NotNull String serverAddress, int serverPort) throws UnknownHostException {
+        InetSocketAddress cachedAddress = getCachedAddress(serverAddress, serverPort);
+        if (cachedAddress != null) {
+            return cachedAddress;
+        }
+
+        String key = PingMetrics.getTargetKey(serverAddress, serverPort);
+        long now = System.nanoTime();
+        InetSocketAddress socketAddress = new InetSocketAddress(serverAddress, serverPort);
+        if (socketAddress.isUnresolved()) {
+            cache.remove(key);
+            throw new UnknownHostException(serverAddress);
+        }
+
+        cache.put(key, new CachedAddress(socketAddress, now + ttlNanos));
+        return socketAddress;
+    }
+
+    /**
+     * Returns the cached address if not expired, or null. Never blocks.
+     */
+    public @Nullable InetSocketAddress getCachedAddress(@NotNull String serverAddress, int serverPort) {
+        Preconditions.notNull(serverAddress, "serverAddress");
+
+        CachedAddress cachedAddress = cache.get(PingMetrics.getTargetKey(serverAddress, serverPort));
+        if (cachedAddress != null && System.nanoTime() - cachedAddress.expirationNanos < 0) {
+            return cachedAddress.socketAddress;
+        }
+        return null;
+    }
+
+    /**
+     * Removes the cached address, for example after failing to connect to it.
+     */
+    public void invalidate(@NotNull String serverAddress, int serverPort) {
+        cache.remove(PingMetrics.getTargetKey(serverAddress, serverPort));
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+
+    private static class CachedAddress {
+
+        private final InetSocketAddress socketAddress;
+        private final long expirationNanos;
+
+        private CachedAddress(InetSocketAddress socketAddress, long expirationNanos) {
+            this.socketAddress = socketAddress;
+            this.expirationNanos = expirationNanos;
+        }
+
+    }
+
+}
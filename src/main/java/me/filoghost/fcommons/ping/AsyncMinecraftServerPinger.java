@@ -0,0 +1,465 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.ping;
+
+import me.filoghost.fcommons.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pings many servers concurrently using non-blocking sockets, handled by a single background thread. Addresses that
+ * are not cached are resolved on a separate executor, since the resolution may block.
+ * <p>
+ * The returned futures are completed by the background thread: dependent actions that may block or take long
+ * should be scheduled with the async methods of {@link CompletableFuture}.
+ */
+public class AsyncMinecraftServerPinger implements ServerPinger, Closeable {
+
+    private static final int DEFAULT_RESOLVER_THREADS = 4;
+
+    private final AddressResolver addressResolver;
+    private final Executor resolverExecutor;
+    private final ExecutorService ownedResolverExecutor; // Created by this pinger and shut down on close, or null
+    private final PingMetrics metrics;
+    private final Selector selector;
+    private final Queue<PingRequest> pendingRequests;
+    private final Set<PingRequest> activeRequests; // Only accessed by the selector thread
+    private final Thread selectorThread;
+    private volatile int protocolVersion;
+    private volatile boolean measureLatency;
+    private volatile boolean closed;
+
+    /**
+     * Creates a pinger that shares the address resolver and the metrics of {@link MinecraftServerPinger}.
+     */
+    public AsyncMinecraftServerPinger() throws IOException {
+        this(MinecraftServerPinger.getAddressResolver(), MinecraftServerPinger.getMetrics());
+    }
+
+    public AsyncMinecraftServerPinger(@NotNull AddressResolver addressResolver, @NotNull PingMetrics metrics) throws IOException {
+        this(addressResolver, metrics, null);
+    }
+
+    /**
+     * Creates a pinger that resolves the addresses not cached on the given executor, or on a small pool of daemon
+     * threads owned by the pinger if null.
+     */
+    public AsyncMinecraftServerPinger(
+            @NotNull AddressResolver addressResolver,
+            @NotNull PingMetrics metrics,
+            @Nullable Executor resolverExecutor) throws IOException {
+        Preconditions.notNull(addressResolver, "addressResolver");
+        Preconditions.notNull(metrics, "metrics");
+        this.addressResolver = addressResolver;
+        this.metrics = metrics;
+        if (resolverExecutor != null) {
+            this.resolverExecutor = resolverExecutor;
+            this.ownedResolverExecutor = null;
+        } else {
+            this.ownedResolverExecutor = createResolverExecutor();
+            this.resolverExecutor = ownedResolverExecutor;
+        }
+        this.selector = Selector.open();
+        this.pendingRequests = new ConcurrentLinkedQueue<>();
+        this.activeRequests = new HashSet<>();
+        this.protocolVersion = MinecraftServerPinger.DEFAULT_PROTOCOL_VERSION;
+        this.selectorThread = new Thread(this::runSelectorLoop, "FCommons Ping Thread");
+        this.selectorThread.setDaemon(true);
+        this.selectorThread.start();
+    }
+
+    private static ExecutorService createResolverExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                DEFAULT_RESOLVER_THREADS,
+                DEFAULT_RESOLVER_THREADS,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "FCommons Ping Resolver Thread");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Sets the protocol version sent in the handshake of the next pings.
+     */
+    public void setProtocolVersion(int protocolVersion) {
+        this.protocolVersion = protocolVersion;
+    }
+
+    /**
+     * Sets whether the next pings should measure the latency, by sending an additional ping packet after the status
+     * response. If the server doesn't reply to it in time, the response is returned with a latency of -1.
+     */
+    public void setMeasureLatency(boolean measureLatency) {
+        this.measureLatency = measureLatency;
+    }
+
+    /**
+     * Starts pinging the server, the timeout (in milliseconds) is applied to the whole request. Never blocks: if the
+     * server address is not cached, it is resolved on the resolver executor before the request is started.
+     */
+    @Override
+    public @NotNull CompletableFuture<PingResponse> ping(@NotNull String serverAddress, int serverPort, int timeout) {
+        Preconditions.notNull(serverAddress, "serverAddress");
+        Preconditions.checkArgument(timeout > 0, "timeout must be positive");
+
+        CompletableFuture<PingResponse> future = new CompletableFuture<>();
+        if (closed) {
+            future.completeExceptionally(new IOException("pinger is closed"));
+            return future;
+        }
+
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        PingRequest request = new PingRequest(serverAddress, serverPort, deadlineNanos, future);
+        request.protocolVersion = protocolVersion;
+        request.measureLatency = measureLatency;
+
+        InetSocketAddress cachedAddress = addressResolver.getCachedAddress(serverAddress, serverPort);
+        if (cachedAddress != null) {
+            request.socketAddress = cachedAddress;
+            addPendingRequest(request);
+        } else {
+            try {
+                resolverExecutor.execute(() -> resolveAndAddPendingRequest(request));
+            } catch (RejectedExecutionException e) {
+                metrics.recordFailure(serverAddress, serverPort);
+                future.completeExceptionally(closed ? new IOException("pinger is closed") : e);
+            }
+        }
+        return future;
+    }
+
+    private void resolveAndAddPendingRequest(PingRequest request) {
+        try {
+            request.socketAddress = addressResolver.resolve(request.serverAddress, request.serverPort);
+        } catch (UnknownHostException e) {
+            metrics.recordFailure(request.serverAddress, request.serverPort);
+            request.future.completeExceptionally(e);
+            return;
+        }
+        addPendingRequest(request);
+    }
+
+    private void addPendingRequest(PingRequest request) {
+        pendingRequests.add(request); // Also publishes the resolved address to the selector thread
+        if (closed) {
+            // The selector thread may have already stopped and will not see the new request
+            failPendingRequests(new IOException("pinger is closed"));
+        } else {
+            selector.wakeup();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        selector.wakeup();
+        if (ownedResolverExecutor != null) {
+            ownedResolverExecutor.shutdown();
+        }
+    }
+
+    private void runSelectorLoop() {
+        try {
+            while (!closed) {
+                selector.select(getSelectTimeoutMillis());
+                registerPendingRequests();
+                processSelectedKeys();
+                expireTimedOutRequests();
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            failAllRequests(e);
+        } finally {
+            failAllRequests(new IOException("pinger is closed"));
+            try {
+                selector.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
+
+    private long getSelectTimeoutMillis() {
+        if (activeRequests.isEmpty()) {
+            return 0; // Wait until woken up
+        }
+
+        long now = System.nanoTime();
+        long minRemainingNanos = Long.MAX_VALUE;
+        for (PingRequest request : activeRequests) {
+            minRemainingNanos = Math.min(minRemainingNanos, request.deadlineNanos - now);
+        }
+
+        // Zero would mean "no timeout"
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(minRemainingNanos) + 1);
+    }
+
+    private void registerPendingRequests() {
+        PingRequest request;
+        while ((request = pendingRequests.poll()) != null) {
+            try {
+                SocketChannel channel = SocketChannel.open();
+                request.channel = channel;
+                channel.configureBlocking(false);
+                activeRequests.add(request);
+
+                request.connectStartNanos = System.nanoTime();
+                if (channel.connect(request.socketAddress)) {
+                    onConnected(request);
+                    channel.register(selector, SelectionKey.OP_WRITE, request);
+                } else {
+                    channel.register(selector, SelectionKey.OP_CONNECT, request);
+                }
+            } catch (IOException e) {
+                fail(request, e);
+            }
+        }
+    }
+
+    private void processSelectedKeys() {
+        Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+        while (iterator.hasNext()) {
+            SelectionKey key = iterator.next();
+            iterator.remove();
+
+            PingRequest request = (PingRequest) key.attachment();
+            try {
+                if (!key.isValid()) {
+                    continue;
+                }
+                if (key.isConnectable()) {
+                    if (finishConnect(request)) {
+                        onConnected(request);
+                        key.interestOps(SelectionKey.OP_WRITE);
+                    }
+                } else if (key.isWritable()) {
+                    handleWrite(key, request);
+                } else if (key.isReadable()) {
+                    handleRead(key, request);
+                }
+            } catch (IOException e) {
+                fail(request, e);
+            }
+        }
+    }
+
+    private boolean finishConnect(PingRequest request) throws IOException {
+        try {
+            return request.channel.finishConnect();
+        } catch (IOException e) {
+            // The address may have changed
+            addressResolver.invalidate(request.serverAddress, request.serverPort);
+            throw e;
+        }
+    }
+
+    private void onConnected(PingRequest request) {
+        metrics.recordConnect(request.serverAddress, request.serverPort, System.nanoTime() - request.connectStartNanos);
+    }
+
+    private void handleWrite(SelectionKey key, PingRequest request) throws IOException {
+        if (request.writeBuffer == null) {
+            request.writeBuffer = PacketCodec.createStatusRequest(request.serverAddress, request.serverPort, request.protocolVersion);
+        }
+
+        request.channel.write(request.writeBuffer);
+
+        if (!request.writeBuffer.hasRemaining()) {
+            request.writeBuffer = null;
+            if (request.packetBuffer == null) {
+                request.packetBuffer = PacketBuffer.acquire();
+            } else {
+                request.packetBuffer.clear();
+            }
+            request.readStartNanos = System.nanoTime();
+            key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    private void handleRead(SelectionKey key, PingRequest request) throws IOException {
+        int readBytes = request.channel.read(request.packetBuffer.getWritableBuffer());
+        if (readBytes < 0) {
+            throw new IOException("connection closed by server");
+        }
+
+        ByteBuffer packet = request.packetBuffer.getPacket();
+        if (packet == null) {
+            return; // Not fully received yet
+        }
+
+        if (request.statusResponse == null) {
+            handleStatusResponse(key, request, packet);
+        } else {
+            handlePong(request, packet);
+        }
+    }
+
+    private void handleStatusResponse(SelectionKey key, PingRequest request, ByteBuffer packet) throws IOException {
+        metrics.recordRead(request.serverAddress, request.serverPort, System.nanoTime() - request.readStartNanos);
+
+        PingResponse response;
+        try {
+            response = PacketCodec.readStatusResponse(packet);
+        } catch (PingParseException e) {
+            fail(request, e); // Also records the failure
+            return;
+        }
+
+        if (request.measureLatency) {
+            request.statusResponse = response;
+            request.pingPayload = System.currentTimeMillis();
+            request.writeBuffer = PacketCodec.createPing(request.pingPayload);
+            key.interestOps(SelectionKey.OP_WRITE);
+        } else {
+            close(request);
+            request.future.complete(response);
+        }
+    }
+
+    private void handlePong(PingRequest request, ByteBuffer packet) {
+        long latency = -1;
+        try {
+            if (PacketCodec.readPong(packet) == request.pingPayload) {
+                latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - request.readStartNanos);
+            }
+        } catch (IOException e) {
+            // Malformed pong, latency not available
+        }
+
+        close(request);
+        request.future.complete(request.statusResponse.withLatency(latency));
+    }
+
+    private void expireTimedOutRequests() {
+        if (activeRequests.isEmpty()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        Iterator<PingRequest> iterator = activeRequests.iterator();
+        while (iterator.hasNext()) {
+            PingRequest request = iterator.next();
+            if (now - request.deadlineNanos >= 0) {
+                iterator.remove();
+                releaseResources(request);
+                completeWithError(request, new SocketTimeoutException(
+                        "ping to " + request.serverAddress + ":" + request.serverPort + " timed out"));
+            }
+        }
+    }
+
+    private void fail(PingRequest request, Throwable error) {
+        close(request);
+        completeWithError(request, error);
+    }
+
+    private void completeWithError(PingRequest request, Throwable error) {
+        if (request.statusResponse != null) {
+            // Failed while measuring the latency
+            request.future.complete(request.statusResponse.withLatency(-1));
+        } else {
+            metrics.recordFailure(request.serverAddress, request.serverPort);
+            request.future.completeExceptionally(error);
+        }
+    }
+
+    private void failAllRequests(Throwable error) {
+        for (PingRequest request : activeRequests) {
+            releaseResources(request);
+            request.future.completeExceptionally(error);
+        }
+        activeRequests.clear();
+        failPendingRequests(error);
+    }
+
+    private void failPendingRequests(Throwable error) {
+        PingRequest request;
+        while ((request = pendingRequests.poll()) != null) {
+            request.future.completeExceptionally(error);
+        }
+    }
+
+    private void close(PingRequest request) {
+        activeRequests.remove(request);
+        releaseResources(request);
+    }
+
+    private static void releaseResources(PingRequest request) {
+        if (request.channel != null) {
+            try {
+                request.channel.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+        if (request.packetBuffer != null) {
+            request.packetBuffer.release();
+        }
+    }
+
+
+    private static class PingRequest {
+
+        private final String serverAddress;
+        private final int serverPort;
+        private final long deadlineNanos;
+        private final CompletableFuture<PingResponse> future;
+
+        private InetSocketAddress socketAddress; // Set before the request is added to the pending requests
+        private SocketChannel channel;
+        private int protocolVersion;
+        private boolean measureLatency;
+        private long connectStartNanos;
+        private long readStartNanos;
+        private PingResponse statusResponse; // Set while measuring the latency
+        private long pingPayload;
+        private ByteBuffer writeBuffer;
+        private PacketBuffer packetBuffer;
+
+        private PingRequest(
+                String serverAddress,
+                int serverPort,
+                long deadlineNanos,
+                CompletableFuture<PingResponse> future) {
+            this.serverAddress = serverAddress;
+            this.serverPort = serverPort;
+            this.deadlineNanos = deadlineNanos;
+            this.future = future;
+        }
+
+    }
+
+}
@@ -5,90 +5,130 @@
  */
 package me.filoghost.fcommons.ping;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.Socket;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
 
 public class MinecraftServerPinger {
 
+    /**
+     * Default protocol version sent in the handshake. Servers usually reply with their own version regardless.
+     */
+    public static final int DEFAULT_PROTOCOL_VERSION = 4;
+
+    private static final AddressResolver ADDRESS_RESOLVER = new AddressResolver(1, TimeUnit.MINUTES);
+    private static final PingMetrics METRICS = new PingMetrics();
+
+    /**
+     * Pings the server, the timeout (in milliseconds) is applied separately to the connection and to each read.
+     */
     public static PingResponse ping(String serverAddress, int serverPort, int timeout) throws IOException, PingParseException {
-        try (Socket socket = openSocket(serverAddress, serverPort)) {
+        return ping(serverAddress, serverPort, timeout, DEFAULT_PROTOCOL_VERSION, false);
+    }
+
+    /**
+     * Pings the server with the given protocol version in the handshake. If measuring the latency, an additional ping
+     * packet is sent after the status response, and the latency is -1 if the server doesn't reply to it.
+     */
+    public static PingResponse ping(
+            String serverAddress,
+            int serverPort,
+            int timeout,
+            int protocolVersion,
+            boolean measureLatency) throws IOException, PingParseException {
+        return ping(serverAddress, serverPort, timeout, protocolVersion, measureLatency, METRICS);
+    }
+
+    static PingResponse ping(
+            String serverAddress,
+            int serverPort,
+            int timeout,
+            int protocolVersion,
+            boolean measureLatency,
+            PingMetrics metrics) throws IOException, PingParseException {
+        PacketBuffer packetBuffer = PacketBuffer.acquire();
+        try (Socket socket = openSocket(serverAddress, serverPort, timeout, metrics)) {
             socket.setSoTimeout(timeout);
-            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
-            DataInputStream in = new DataInputStream(socket.getInputStream());
-
-            // Handshake packet
-            ByteArrayOutputStream handshakeBytes = new ByteArrayOutputStream();
-            DataOutputStream handshakeOut = new DataOutputStream(handshakeBytes);
-            handshakeOut.writeByte(0x00); // Packet ID
-            writeVarInt(handshakeOut, 4); // Protocol version
-            writeString(handshakeOut, serverAddress);
-            handshakeOut.writeShort(serverPort);
-            writeVarInt(handshakeOut, 1); // Next state: status request
-            writeByteArray(out, handshakeBytes.toByteArray());
-
-            // Status request packet
-            writeByteArray(out, new byte[]{0x00}); // Packet ID
+            socket.setTcpNoDelay(true); // Packets are small, do not delay them
+            OutputStream out = socket.getOutputStream();
+            InputStream in = socket.getInputStream();
+
+            // Handshake and status request packets
+            write(out, PacketCodec.createStatusRequest(serverAddress, serverPort, protocolVersion));
 
             // Response packet
-            readVarInt(in); // Packet size
-            readVarInt(in); // Packet ID
-            String responseJson = readString(in);
+            long readStartNanos = System.nanoTime();
+            ByteBuffer responsePacket = packetBuffer.readPacket(in);
+            metrics.recordRead(serverAddress, serverPort, System.nanoTime() - readStartNanos);
 
-            return PingResponse.fromJson(responseJson);
+            PingResponse response = PacketCodec.readStatusResponse(responsePacket);
+            if (measureLatency) {
+                packetBuffer.clear();
+                response = response.withLatency(measureLatency(in, out, packetBuffer));
+            }
+            return response;
+        } catch (IOException | PingParseException e) {
+            metrics.recordFailure(serverAddress, serverPort);
+            throw e;
+        } finally {
+            packetBuffer.release();
         }
     }
 
-    private static Socket openSocket(String serverAddress, int serverPort) throws IOException {
-        return new Socket(serverAddress, serverPort);
-    }
+    private static long measureLatency(InputStream in, OutputStream out, PacketBuffer packetBuffer) {
+        try {
+            long payload = System.currentTimeMillis();
+            long startNanos = System.nanoTime();
 
-    private static String readString(DataInputStream in) throws IOException {
-        byte[] bytes = readByteArray(in);
-        return new String(bytes, StandardCharsets.UTF_8);
-    }
+            write(out, PacketCodec.createPing(payload));
+            long pongPayload = PacketCodec.readPong(packetBuffer.readPacket(in));
+            if (pongPayload != payload) {
+                return -1;
+            }
 
-    private static void writeString(DataOutputStream out, String s) throws IOException {
-        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
-        writeByteArray(out, bytes);
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        } catch (IOException e) {
+            return -1;
+        }
     }
 
-    private static byte[] readByteArray(DataInputStream in) throws IOException {
-        int length = readVarInt(in);
-        byte[] bytes = new byte[length];
-        in.readFully(bytes);
-        return bytes;
+    private static void write(OutputStream out, ByteBuffer buffer) throws IOException {
+        out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        out.flush();
     }
 
-    private static void writeByteArray(DataOutputStream out, byte[] bytes) throws IOException {
-        writeVarInt(out, bytes.length);
-        out.write(bytes);
+    private static Socket openSocket(String serverAddress, int serverPort, int timeout, PingMetrics metrics) throws IOException {
+        InetSocketAddress socketAddress = ADDRESS_RESOLVER.resolve(serverAddress, serverPort);
+        Socket socket = new Socket();
+        try {
+            long connectStartNanos = System.nanoTime();
+            socket.connect(socketAddress, timeout);
+            metrics.recordConnect(serverAddress, serverPort, System.nanoTime() - connectStartNanos);
+            return socket;
+        } catch (IOException e) {
+            socket.close();
+            // The address may have changed
+            ADDRESS_RESOLVER.invalidate(serverAddress, serverPort);
+            throw e;
+        }
     }
 
-    private static int readVarInt(DataInputStream in) throws IOException {
-        int i = 0;
-        int j = 0;
-        while (true) {
-            int k = in.readByte();
-            i |= (k & 0x7F) << j++ * 7;
-            if (j > 5) {
-                throw new RuntimeException("VarInt too big");
-            }
-            if ((k & 0x80) != 0x80) {
-                return i;
-            }
-        }
+    /**
+     * Returns the resolver shared by the pingers, which caches resolved addresses for one minute by default.
+     */
+    public static AddressResolver getAddressResolver() {
+        return ADDRESS_RESOLVER;
     }
 
-    private static void writeVarInt(DataOutputStream out, int paramInt) throws IOException {
-        while ((paramInt & 0xFFFFFF80) != 0x0) {
-            out.writeByte((paramInt & 0x7F) | 0x80);
-            paramInt >>>= 7;
-        }
-        out.writeByte(paramInt);
+    /**
+     * Returns the metrics shared by the pingers.
+     */
+    public static PingMetrics getMetrics() {
+        return METRICS;
     }
 
 }
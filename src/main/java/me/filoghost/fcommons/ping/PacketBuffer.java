@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.ping;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Growable buffer for receiving packets, backed by a pool of reusable byte buffers. Must be released after use.
+ */
+final class PacketBuffer {
+
+    private static final int POOLED_CAPACITY = 8 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 64;
+    private static final Queue<ByteBuffer> POOL = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger POOL_SIZE = new AtomicInteger();
+
+    private ByteBuffer buffer; // The position is the number of received bytes
+
+    private PacketBuffer(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    static PacketBuffer acquire() {
+        ByteBuffer buffer = POOL.poll();
+        if (buffer != null) {
+            POOL_SIZE.decrementAndGet();
+            buffer.clear();
+        } else {
+            buffer = ByteBuffer.allocate(POOLED_CAPACITY);
+        }
+        return new PacketBuffer(buffer);
+    }
+
+    /**
+     * Returns the buffer where received bytes should be written, with some remaining space.
+     */
+    ByteBuffer getWritableBuffer() {
+        if (!buffer.hasRemaining()) {
+            grow(buffer.capacity() * 2);
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns a view of the body of the first received packet, or null if not fully received yet.
+     */
+    @Nullable ByteBuffer getPacket() throws IOException {
+        ByteBuffer received = (ByteBuffer) buffer.duplicate().flip();
+        int packetLength = PacketCodec.readPacketLength(received);
+        if (packetLength < 0) {
+            return null;
+        }
+        if (received.remaining() < packetLength) {
+            int requiredCapacity = received.position() + packetLength;
+            if (buffer.capacity() < requiredCapacity) {
+                grow(requiredCapacity);
+            }
+            return null;
+        }
+
+        received.limit(received.position() + packetLength);
+        return received;
+    }
+
+    /**
+     * Reads from the stream until a whole packet is received, returning a view of its body.
+     */
+    ByteBuffer readPacket(InputStream in) throws IOException {
+        while (true) {
+            ByteBuffer packet = getPacket();
+            if (packet != null) {
+                return packet;
+            }
+
+            ByteBuffer writableBuffer = getWritableBuffer();
+            int readBytes = in.read(
+                    writableBuffer.array(),
+                    writableBuffer.arrayOffset() + writableBuffer.position(),
+                    writableBuffer.remaining());
+            if (readBytes < 0) {
+                throw new EOFException("connection closed by server");
+            }
+            writableBuffer.position(writableBuffer.position() + readBytes);
+        }
+    }
+
+    /**
+     * Discards the received bytes, to be called after a packet has been handled.
+     */
+    void clear() {
+        buffer.clear();
+    }
+
+    void release() {
+        if (buffer == null) {
+            return;
+        }
+        returnToPool(buffer);
+        buffer = null;
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.min(Math.max(minCapacity, buffer.capacity() * 2), PacketCodec.MAX_PACKET_LENGTH + 5);
+        ByteBuffer newBuffer = ByteBuffer.allocate(newCapacity);
+        buffer.flip();
+        newBuffer.put(buffer);
+        returnToPool(buffer);
+        buffer = newBuffer;
+    }
+
+    private static void returnToPool(ByteBuffer buffer) {
+        if (buffer.capacity() != POOLED_CAPACITY) {
+            return;
+        }
+        if (POOL_SIZE.incrementAndGet() <= MAX_POOLED_BUFFERS) {
+            POOL.add(buffer);
+        } else {
+            POOL_SIZE.decrementAndGet();
+        }
+    }
+
+}
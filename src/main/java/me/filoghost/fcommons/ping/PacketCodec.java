@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.ping;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes and decodes the packets of the Minecraft protocol used for pinging, on heap byte buffers.
+ */
+final class PacketCodec {
+
+    static final int MAX_PACKET_LENGTH = 2 * 1024 * 1024;
+
+    private static final int HANDSHAKE_PACKET_ID = 0x00;
+    private static final int STATUS_REQUEST_PACKET_ID = 0x00;
+    private static final int STATUS_RESPONSE_PACKET_ID = 0x00;
+    private static final int PING_PACKET_ID = 0x01;
+    private static final int NEXT_STATE_STATUS = 1;
+
+    private PacketCodec() {}
+
+    /**
+     * Returns a buffer, ready to be written, with the handshake packet followed by the status request packet.
+     */
+    static ByteBuffer createStatusRequest(String serverAddress, int serverPort, int protocolVersion) {
+        int handshakeLength = getVarIntSize(HANDSHAKE_PACKET_ID)
+                + getVarIntSize(protocolVersion)
+                + getStringSize(serverAddress)
+                + 2 // Port
+                + getVarIntSize(NEXT_STATE_STATUS);
+        int statusRequestLength = getVarIntSize(STATUS_REQUEST_PACKET_ID);
+
+        ByteBuffer buffer = ByteBuffer.allocate(
+                getVarIntSize(handshakeLength) + handshakeLength + getVarIntSize(statusRequestLength) + statusRequestLength);
+
+        writeVarInt(buffer, handshakeLength);
+        writeVarInt(buffer, HANDSHAKE_PACKET_ID);
+        writeVarInt(buffer, protocolVersion);
+        writeString(buffer, serverAddress);
+        buffer.putShort((short) serverPort);
+        writeVarInt(buffer, NEXT_STATE_STATUS);
+
+        writeVarInt(buffer, statusRequestLength);
+        writeVarInt(buffer, STATUS_REQUEST_PACKET_ID);
+
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer, ready to be written, with the ping packet.
+     */
+    static ByteBuffer createPing(long payload) {
+        int length = getVarIntSize(PING_PACKET_ID) + Long.BYTES;
+        ByteBuffer buffer = ByteBuffer.allocate(getVarIntSize(length) + length);
+        writeVarInt(buffer, length);
+        writeVarInt(buffer, PING_PACKET_ID);
+        buffer.putLong(payload);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Parses the body of a status response packet, without decoding the JSON string.
+     */
+    static PingResponse readStatusResponse(ByteBuffer packet) throws IOException, PingParseException {
+        try {
+            int packetId = readVarInt(packet);
+            if (packetId != STATUS_RESPONSE_PACKET_ID) {
+                throw new IOException("unexpected packet ID " + packetId);
+            }
+            int jsonLength = readVarInt(packet);
+            if (jsonLength < 0 || jsonLength > packet.remaining()) {
+                throw new IOException("invalid string length (" + jsonLength + ")");
+            }
+            return PingResponse.fromJson(packet.array(), packet.arrayOffset() + packet.position(), jsonLength);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("malformed status response packet");
+        }
+    }
+
+    /**
+     * Parses the body of a pong packet, returning its payload.
+     */
+    static long readPong(ByteBuffer packet) throws IOException {
+        try {
+            int packetId = readVarInt(packet);
+            if (packetId != PING_PACKET_ID) {
+                throw new IOException("unexpected packet ID " + packetId);
+            }
+            return packet.getLong();
+        } catch (BufferUnderflowException e) {
+            throw new IOException("malformed pong packet");
+        }
+    }
+
+    /**
+     * Reads the length prefix of a packet, returning -1 if the buffer doesn't contain all of it yet.
+     */
+    static int readPacketLength(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int i = 0; i < 5; i++) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            byte b = buffer.get();
+            value |= (b & 0x7F) << (i * 7);
+            if ((b & 0x80) == 0) {
+                if (value < 0 || value > MAX_PACKET_LENGTH) {
+                    throw new IOException("invalid packet length (" + value + ")");
+                }
+                return value;
+            }
+        }
+        throw new IOException("VarInt too big");
+    }
+
+    static int readVarInt(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int i = 0; i < 5; i++) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << (i * 7);
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("VarInt too big");
+    }
+
+    static long readVarLong(ByteBuffer buffer) throws IOException {
+        long value = 0;
+        for (int i = 0; i < 10; i++) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << (i * 7);
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("VarLong too big");
+    }
+
+    static String readString(ByteBuffer buffer) throws IOException {
+        int length = readVarInt(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("invalid string length (" + length + ")");
+        }
+        String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+
+    static void writeVarInt(ByteBuffer buffer, int value) {
+        while ((value & 0xFFFFFF80) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static void writeVarLong(ByteBuffer buffer, long value) {
+        while ((value & 0xFFFFFFFFFFFFFF80L) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static void writeString(ByteBuffer buffer, String string) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    static int getVarIntSize(int value) {
+        int size = 1;
+        while ((value & 0xFFFFFF80) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
+    }
+
+    static int getVarLongSize(long value) {
+        int size = 1;
+        while ((value & 0xFFFFFFFFFFFFFF80L) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
+    }
+
+    static int getStringSize(String string) {
+        int byteLength = getUTF8Length(string);
+        return getVarIntSize(byteLength) + byteLength;
+    }
+
+    /*
+     * Same length of string.getBytes(UTF_8), which encodes unpaired surrogates as a single replacement byte.
+     */
+    private static int getUTF8Length(String string) {
+        int length = 0;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < string.length() && Character.isLowSurrogate(string.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else {
+                    length += 1; // Replaced with '?'
+                }
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.ping;
+
+import com.google.common.collect.ImmutableMap;
+import me.filoghost.fcommons.metrics.Histogram;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects connect and read latencies (in nanoseconds) and failures of pings, separately for each target server.
+ */
+public class PingMetrics {
+
+    private final Map<String, TargetMetrics> metricsByTarget;
+
+    public PingMetrics() {
+        this.metricsByTarget = new ConcurrentHashMap<>();
+    }
+
+    void recordConnect(String serverAddress, int serverPort, long connectNanos) {
+        getOrCreate(serverAddress, serverPort).connectNanos.record(connectNanos);
+    }
+
+    void recordRead(String serverAddress, int serverPort, long readNanos) {
+        getOrCreate(serverAddress, serverPort).readNanos.record(readNanos);
+    }
+
+    void recordFailure(String serverAddress, int serverPort) {
+        getOrCreate(serverAddress, serverPort).failures.increment();
+    }
+
+    private TargetMetrics getOrCreate(String serverAddress, int serverPort) {
+        return metricsByTarget.computeIfAbsent(getTargetKey(serverAddress, serverPort), key -> new TargetMetrics());
+    }
+
+    public @Nullable TargetMetrics getTargetMetrics(@NotNull String serverAddress, int serverPort) {
+        return metricsByTarget.get(getTargetKey(serverAddress, serverPort));
+    }
+
+    /**
+     * Returns the metrics of all the targets, with keys in the format "address:port".
+     */
+    public @NotNull Map<String, TargetMetrics> getAllTargetMetrics() {
+        return ImmutableMap.copyOf(metricsByTarget);
+    }
+
+    public void reset() {
+        metricsByTarget.clear();
+    }
+
+    static String getTargetKey(String serverAddress, int serverPort) {
+        return serverAddress.toLowerCase(Locale.ROOT) + ":" + serverPort;
+    }
+
+
+    public static class TargetMetrics {
+
+        private final Histogram connectNanos = new Histogram();
+        private final Histogram readNanos = new Histogram();
+        private final LongAdder failures = new LongAdder();
+
+        private TargetMetrics() {}
+
+        public Histogram getConnectNanos() {
+            return connectNanos;
+        }
+
+        public Histogram getReadNanos() {
+            return readNanos;
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+    }
+
+}
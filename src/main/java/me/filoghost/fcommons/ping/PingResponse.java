@@ -5,85 +5,116 @@
  */
 package me.filoghost.fcommons.ping;
 
-import net.md_5.bungee.chat.ComponentSerializer;
-import org.json.simple.JSONObject;
-import org.json.simple.JSONValue;
+import com.google.common.collect.ImmutableList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
 
 public class PingResponse {
 
     private final String motd;
     private final int onlinePlayers;
     private final int maxPlayers;
-
-    private PingResponse(String motd, int onlinePlayers, int maxPlayers) {
+    private final String versionName;
+    private final int versionProtocol;
+    private final ImmutableList<SamplePlayer> samplePlayers;
+    private final long latency;
+
+    PingResponse(
+            String motd,
+            int onlinePlayers,
+            int maxPlayers,
+            String versionName,
+            int versionProtocol,
+            ImmutableList<SamplePlayer> samplePlayers,
+            long latency) {
         this.motd = motd;
         this.onlinePlayers = onlinePlayers;
         this.maxPlayers = maxPlayers;
+        this.versionName = versionName;
+        this.versionProtocol = versionProtocol;
+        this.samplePlayers = samplePlayers;
+        this.latency = latency;
     }
 
     static PingResponse fromJson(String jsonString) throws PingParseException {
-        if (jsonString.isEmpty()) {
-            throw new PingParseException("empty", jsonString);
-        }
+        byte[] bytes = jsonString.getBytes(StandardCharsets.UTF_8);
+        return fromJson(bytes, 0, bytes.length);
+    }
 
-        Object jsonObject = JSONValue.parse(jsonString);
+    static PingResponse fromJson(byte[] bytes, int offset, int length) throws PingParseException {
+        return StatusResponseParser.parse(bytes, offset, length);
+    }
 
-        if (!(jsonObject instanceof JSONObject)) {
-            throw new PingParseException("wrong format", jsonString);
-        }
+    PingResponse withLatency(long latency) {
+        return new PingResponse(motd, onlinePlayers, maxPlayers, versionName, versionProtocol, samplePlayers, latency);
+    }
 
-        JSONObject json = (JSONObject) jsonObject;
+    public String getMotd() {
+        return motd;
+    }
 
-        Object descriptionObject = json.get("description");
+    public int getOnlinePlayers() {
+        return onlinePlayers;
+    }
 
-        String motd;
-        int onlinePlayers = 0;
-        int maxPlayers = 0;
+    public int getMaxPlayers() {
+        return maxPlayers;
+    }
 
-        if (descriptionObject == null) {
-            throw new PingParseException("description not found", jsonString);
-        }
+    /**
+     * Returns the version name sent by the server, or null if missing.
+     */
+    public @Nullable String getVersionName() {
+        return versionName;
+    }
 
-        if (descriptionObject instanceof JSONObject) {
-            String descriptionString = ((JSONObject) descriptionObject).toJSONString();
-            try {
-                motd = ComponentSerializer.parse(descriptionString)[0].toLegacyText();
-            } catch (Exception e) {
-                throw new PingParseException("could not parse description", jsonString);
-            }
-        } else {
-            motd = descriptionObject.toString();
-        }
+    /**
+     * Returns the protocol version of the server, or -1 if missing.
+     */
+    public int getVersionProtocol() {
+        return versionProtocol;
+    }
 
-        Object playersObject = json.get("players");
+    /**
+     * Returns the sample of online players sent by the server, usually displayed when hovering the player count.
+     */
+    public @NotNull List<SamplePlayer> getSamplePlayers() {
+        return samplePlayers;
+    }
 
-        if (playersObject instanceof JSONObject) {
-            JSONObject playersJson = (JSONObject) playersObject;
+    /**
+     * Returns the round-trip time in milliseconds measured with the ping packet, or -1 if not measured.
+     */
+    public long getLatency() {
+        return latency;
+    }
 
-            Object onlineObject = playersJson.get("online");
-            if (onlineObject instanceof Number) {
-                onlinePlayers = ((Number) onlineObject).intValue();
-            }
 
-            Object maxObject = playersJson.get("max");
-            if (maxObject instanceof Number) {
-                maxPlayers = ((Number) maxObject).intValue();
-            }
-        }
+    public static class SamplePlayer {
 
-        return new PingResponse(motd, onlinePlayers, maxPlayers);
-    }
+        private final String name;
+        private final UUID uniqueId;
 
-    public String getMotd() {
-        return motd;
-    }
+        SamplePlayer(String name, UUID uniqueId) {
+            this.name = name;
+            this.uniqueId = uniqueId;
+        }
 
-    public int getOnlinePlayers() {
-        return onlinePlayers;
-    }
+        public @NotNull String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the UUID of the player, or null if missing or invalid (often the case for custom lines of text).
+         */
+        public @Nullable UUID getUniqueId() {
+            return uniqueId;
+        }
 
-    public int getMaxPlayers() {
-        return maxPlayers;
     }
 
 }
@@ -0,0 +1,20 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.ping;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+
+@FunctionalInterface
+public interface ServerPinger {
+
+    /**
+     * Starts pinging the server, the timeout is in milliseconds.
+     */
+    @NotNull CompletableFuture<PingResponse> ping(@NotNull String serverAddress, int serverPort, int timeout);
+
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.ping;
+
+import me.filoghost.fcommons.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Caches the status of servers, refreshing it in the background while it keeps being requested.
+ * <p>
+ * Concurrent requests for the same server share a single ping. Results older than the TTL are still returned
+ * immediately, while a new ping is started in the background. Unreachable servers are pinged again with an
+ * exponential backoff, instead of on every request.
+ */
+public class ServerStatusCache implements Closeable {
+
+    private static final long DEFAULT_MAX_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final long DEFAULT_IDLE_EXPIRATION_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final double DEFAULT_JITTER = 0.1;
+
+    private final ServerPinger pinger;
+    private final ScheduledExecutorService scheduler;
+    private final long ttlNanos;
+    private final int pingTimeout;
+    private final Map<String, Entry> entries;
+
+    private volatile long maxBackoffNanos;
+    private volatile long idleExpirationNanos;
+    private volatile double jitter;
+    private volatile boolean closed;
+
+    /**
+     * Creates a cache that pings the servers at intervals of about the given TTL. The scheduler is not owned by the
+     * cache and is not shut down by {@link #close()}.
+     */
+    public ServerStatusCache(
+            @NotNull ServerPinger pinger,
+            @NotNull ScheduledExecutorService scheduler,
+            long ttl,
+            @NotNull TimeUnit ttlUnit,
+            int pingTimeout) {
+        Preconditions.notNull(pinger, "pinger");
+        Preconditions.notNull(scheduler, "scheduler");
+        Preconditions.notNull(ttlUnit, "ttlUnit");
+        Preconditions.checkArgument(ttl > 0, "ttl must be positive");
+        Preconditions.checkArgument(pingTimeout > 0, "pingTimeout must be positive");
+
+        this.pinger = pinger;
+        this.scheduler = scheduler;
+        this.ttlNanos = ttlUnit.toNanos(ttl);
+        this.pingTimeout = pingTimeout;
+        this.entries = new ConcurrentHashMap<>();
+        this.maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_MAX_BACKOFF_MILLIS);
+        this.idleExpirationNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_IDLE_EXPIRATION_MILLIS);
+        this.jitter = DEFAULT_JITTER;
+    }
+
+    public void setMaxBackoff(long maxBackoff, @NotNull TimeUnit unit) {
+        Preconditions.checkArgument(maxBackoff > 0, "maxBackoff must be positive");
+        this.maxBackoffNanos = unit.toNanos(maxBackoff);
+    }
+
+    /**
+     * Sets after how long servers that are no longer requested stop being refreshed and are removed.
+     */
+    public void setIdleExpiration(long idleExpiration, @NotNull TimeUnit unit) {
+        Preconditions.checkArgument(idleExpiration > 0, "idleExpiration must be positive");
+        this.idleExpirationNanos = unit.toNanos(idleExpiration);
+    }
+
+    /**
+     * Sets the maximum random variation of the refresh intervals, as a fraction between 0 and 1.
+     */
+    public void setJitter(double jitter) {
+        Preconditions.checkArgument(jitter >= 0 && jitter <= 1, "jitter must be between 0 and 1");
+        this.jitter = jitter;
+    }
+
+    /**
+     * Returns the cached status, which may be stale, or the ping in progress if the server was never pinged before.
+     * The future completes exceptionally if the last ping failed.
+     */
+    public @NotNull CompletableFuture<PingResponse> getStatus(@NotNull String serverAddress, int serverPort) {
+        Entry entry = getEntry(serverAddress, serverPort);
+
+        CompletableFuture<PingResponse> lastResult = entry.lastResult;
+        if (lastResult == null) {
+            return entry.refresh();
+        }
+
+        if (entry.isStale() && entry.consecutiveFailures == 0) {
+            // Unreachable servers are only pinged again by the scheduled refresh, with backoff
+            entry.refresh();
+        }
+        return lastResult;
+    }
+
+    /**
+     * Returns the cached status without waiting, or null if the server is not known yet or the last ping failed.
+     */
+    public @Nullable PingResponse getCachedStatus(@NotNull String serverAddress, int serverPort) {
+        CompletableFuture<PingResponse> status = getStatus(serverAddress, serverPort);
+        if (status.isDone() && !status.isCompletedExceptionally()) {
+            return status.join();
+        }
+        return null;
+    }
+
+    public void invalidate(@NotNull String serverAddress, int serverPort) {
+        Entry entry = entries.remove(getKey(serverAddress, serverPort));
+        if (entry != null) {
+            entry.cancelScheduledRefresh();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (Entry entry : entries.values()) {
+            entry.cancelScheduledRefresh();
+        }
+        entries.clear();
+    }
+
+    private Entry getEntry(String serverAddress, int serverPort) {
+        Preconditions.notNull(serverAddress, "serverAddress");
+        Preconditions.checkState(!closed, "cache is closed");
+
+        Entry entry = entries.computeIfAbsent(getKey(serverAddress, serverPort), key -> new Entry(serverAddress, serverPort));
+        entry.lastAccessNanos = System.nanoTime();
+        return entry;
+    }
+
+    private static String getKey(String serverAddress, int serverPort) {
+        return PingMetrics.getTargetKey(serverAddress, serverPort);
+    }
+
+    private long getRefreshDelayNanos(int consecutiveFailures) {
+        long delayNanos = ttlNanos;
+        if (consecutiveFailures > 0) {
+            long maxBackoffNanos = Math.max(ttlNanos, this.maxBackoffNanos);
+            int exponent = Math.min(consecutiveFailures - 1, 62);
+            if (ttlNanos > maxBackoffNanos >> exponent) {
+                delayNanos = maxBackoffNanos;
+            } else {
+                delayNanos = ttlNanos << exponent;
+            }
+        }
+
+        double jitter = this.jitter;
+        if (jitter > 0) {
+            delayNanos += (long) (delayNanos * jitter * ThreadLocalRandom.current().nextDouble(-1.0, 1.0));
+        }
+        return Math.max(1, delayNanos);
+    }
+
+
+    private class Entry {
+
+        private final String serverAddress;
+        private final int serverPort;
+        private final AtomicReference<CompletableFuture<PingResponse>> inFlightPing;
+
+        private volatile CompletableFuture<PingResponse> lastResult;
+        private volatile long lastResultNanos;
+        private volatile long lastAccessNanos;
+        private volatile int consecutiveFailures; // Only modified when a ping completes
+        private ScheduledFuture<?> scheduledRefresh; // Guarded by this
+
+        private Entry(String serverAddress, int serverPort) {
+            this.serverAddress = serverAddress;
+            this.serverPort = serverPort;
+            this.inFlightPing = new AtomicReference<>();
+        }
+
+        private boolean isStale() {
+            return System.nanoTime() - lastResultNanos >= ttlNanos;
+        }
+
+        private CompletableFuture<PingResponse> refresh() {
+            while (true) {
+                CompletableFuture<PingResponse> inFlight = inFlightPing.get();
+                if (inFlight != null) {
+                    return inFlight;
+                }
+
+                CompletableFuture<PingResponse> newPing = new CompletableFuture<>();
+                if (inFlightPing.compareAndSet(null, newPing)) {
+                    startPing(newPing);
+                    return newPing;
+                }
+            }
+        }
+
+        private void startPing(CompletableFuture<PingResponse> result) {
+            CompletableFuture<PingResponse> ping;
+            try {
+                ping = pinger.ping(serverAddress, serverPort, pingTimeout);
+            } catch (Throwable t) {
+                ping = new CompletableFuture<>();
+                ping.completeExceptionally(t);
+            }
+
+            ping.whenComplete((response, error) -> {
+                if (error == null) {
+                    consecutiveFailures = 0;
+                } else {
+                    consecutiveFailures++;
+                }
+
+                // Update the last result before allowing new pings
+                lastResult = result;
+                lastResultNanos = System.nanoTime();
+                inFlightPing.set(null);
+
+                if (error == null) {
+                    result.complete(response);
+                } else {
+                    result.completeExceptionally(error);
+                }
+
+                scheduleRefresh();
+            });
+        }
+
+        private synchronized void scheduleRefresh() {
+            cancelScheduledRefresh();
+
+            if (closed || entries.get(getKey(serverAddress, serverPort)) != this) {
+                return;
+            }
+            if (System.nanoTime() - lastAccessNanos >= idleExpirationNanos) {
+                entries.remove(getKey(serverAddress, serverPort), this);
+                return;
+            }
+
+            try {
+                long delayNanos = getRefreshDelayNanos(consecutiveFailures);
+                scheduledRefresh = scheduler.schedule(this::refresh, delayNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // The scheduler was shut down
+            }
+        }
+
+        private synchronized void cancelScheduledRefresh() {
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel(false);
+                scheduledRefresh = null;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,611 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.ping;
+
+import com.google.common.collect.ImmutableList;
+import me.filoghost.fcommons.ping.PingResponse.SamplePlayer;
+import org.bukkit.ChatColor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Streaming parser of the JSON status response, reading the needed fields directly from the UTF-8 bytes. All the
+ * other values (such as the favicon) are skipped without being decoded. The description is converted to legacy
+ * text while parsing, similar to BungeeCord's {@code BaseComponent.toLegacyText()} for text components. Translate
+ * components are written as their raw key, without resolving the translation or inserting the "with" arguments,
+ * and the other component types (such as score and keybind) only contribute their style and extra children.
+ */
+final class StatusResponseParser {
+
+    private final byte[] bytes;
+    private final int start;
+    private final int end;
+    private int pos;
+
+    private String motd;
+    private int onlinePlayers;
+    private int maxPlayers;
+    private ImmutableList<SamplePlayer> samplePlayers;
+    private String versionName;
+    private int versionProtocol;
+
+    private StatusResponseParser(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.start = offset;
+        this.end = offset + length;
+        this.pos = offset;
+        this.samplePlayers = ImmutableList.of();
+        this.versionProtocol = -1;
+    }
+
+    static PingResponse parse(byte[] bytes, int offset, int length) throws PingParseException {
+        return new StatusResponseParser(bytes, offset, length).parseResponse();
+    }
+
+    private PingResponse parseResponse() throws PingParseException {
+        skipWhitespace();
+        if (pos >= end) {
+            throw newParseException("empty");
+        }
+        if (bytes[pos] != '{') {
+            throw newParseException("wrong format");
+        }
+
+        pos++;
+        if (!tryConsume('}')) {
+            do {
+                String key = readString();
+                expect(':');
+                switch (key) {
+                    case "description":
+                        motd = readDescription();
+                        break;
+                    case "players":
+                        readPlayers();
+                        break;
+                    case "version":
+                        readVersion();
+                        break;
+                    default:
+                        skipValue();
+                        break;
+                }
+            } while (tryConsume(','));
+            expect('}');
+        }
+
+        if (motd == null) {
+            throw newParseException("description not found");
+        }
+
+        return new PingResponse(motd, onlinePlayers, maxPlayers, versionName, versionProtocol, samplePlayers, -1);
+    }
+
+    private void readPlayers() throws PingParseException {
+        if (peek() != '{') {
+            skipValue();
+            return;
+        }
+
+        pos++;
+        if (tryConsume('}')) {
+            return;
+        }
+        do {
+            String key = readString();
+            expect(':');
+            if (key.equals("online")) {
+                onlinePlayers = readIntOrSkip(0);
+            } else if (key.equals("max")) {
+                maxPlayers = readIntOrSkip(0);
+            } else if (key.equals("sample")) {
+                samplePlayers = readSamplePlayers();
+            } else {
+                skipValue();
+            }
+        } while (tryConsume(','));
+        expect('}');
+    }
+
+    private void readVersion() throws PingParseException {
+        if (peek() != '{') {
+            skipValue();
+            return;
+        }
+
+        pos++;
+        if (tryConsume('}')) {
+            return;
+        }
+        do {
+            String key = readString();
+            expect(':');
+            if (key.equals("name")) {
+                versionName = readStringOrSkip();
+            } else if (key.equals("protocol")) {
+                versionProtocol = readIntOrSkip(-1);
+            } else {
+                skipValue();
+            }
+        } while (tryConsume(','));
+        expect('}');
+    }
+
+    private ImmutableList<SamplePlayer> readSamplePlayers() throws PingParseException {
+        if (peek() != '[') {
+            skipValue();
+            return ImmutableList.of();
+        }
+
+        ImmutableList.Builder<SamplePlayer> samplePlayers = ImmutableList.builder();
+        pos++;
+        if (tryConsume(']')) {
+            return samplePlayers.build();
+        }
+        do {
+            if (peek() != '{') {
+                skipValue();
+                continue;
+            }
+
+            String name = null;
+            String id = null;
+            pos++;
+            if (!tryConsume('}')) {
+                do {
+                    String key = readString();
+                    expect(':');
+                    if (key.equals("name")) {
+                        name = readStringOrSkip();
+                    } else if (key.equals("id")) {
+                        id = readStringOrSkip();
+                    } else {
+                        skipValue();
+                    }
+                } while (tryConsume(','));
+                expect('}');
+            }
+
+            if (name != null) {
+                samplePlayers.add(new SamplePlayer(name, parseUUID(id)));
+            }
+        } while (tryConsume(','));
+        expect(']');
+
+        return samplePlayers.build();
+    }
+
+    private static UUID parseUUID(String id) {
+        if (id == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String readDescription() throws PingParseException {
+        switch (peek()) {
+            case '"':
+                return readString();
+            case '{':
+            case '[':
+                StringBuilder legacyText = new StringBuilder();
+                readComponent(Style.ROOT, legacyText);
+                return legacyText.toString();
+            case 'n':
+                skipValue(); // null
+                return null;
+            default:
+                int valueStart = pos;
+                skipValue();
+                return new String(bytes, valueStart, pos - valueStart, StandardCharsets.UTF_8);
+        }
+    }
+
+    private void readComponent(Style parentStyle, StringBuilder legacyText) throws PingParseException {
+        byte first = peek();
+        if (first == '"') {
+            parentStyle.appendTo(legacyText);
+            legacyText.append(readString());
+            return;
+        } else if (first == '[') {
+            readComponents(parentStyle, legacyText);
+            return;
+        } else if (first != '{') {
+            skipValue();
+            return;
+        }
+
+        Style style = new Style(parentStyle);
+        String text = null;
+        String translate = null;
+        int extraPos = -1;
+
+        pos++;
+        if (!tryConsume('}')) {
+            do {
+                String key = readString();
+                expect(':');
+                switch (key) {
+                    case "text":
+                        text = readStringOrSkip();
+                        break;
+                    case "translate":
+                        translate = readStringOrSkip();
+                        break;
+                    case "color":
+                        style.setColor(readStringOrSkip());
+                        break;
+                    case "bold":
+                        style.bold = readBooleanOrSkip(style.bold);
+                        break;
+                    case "italic":
+                        style.italic = readBooleanOrSkip(style.italic);
+                        break;
+                    case "underlined":
+                        style.underlined = readBooleanOrSkip(style.underlined);
+                        break;
+                    case "strikethrough":
+                        style.strikethrough = readBooleanOrSkip(style.strikethrough);
+                        break;
+                    case "obfuscated":
+                        style.obfuscated = readBooleanOrSkip(style.obfuscated);
+                        break;
+                    case "extra":
+                        // Children must be written after the text, which may come later
+                        skipWhitespace();
+                        extraPos = pos;
+                        skipValue();
+                        break;
+                    default:
+                        skipValue();
+                        break;
+                }
+            } while (tryConsume(','));
+            expect('}');
+        }
+
+        style.appendTo(legacyText);
+        if (text != null) {
+            legacyText.append(text);
+        } else if (translate != null) {
+            legacyText.append(translate); // Translations are not available, the "with" arguments are ignored
+        }
+
+        if (extraPos >= 0) {
+            int endPos = pos;
+            pos = extraPos;
+            readComponent(style, legacyText);
+            pos = endPos;
+        }
+    }
+
+    private void readComponents(Style parentStyle, StringBuilder legacyText) throws PingParseException {
+        expect('[');
+        if (tryConsume(']')) {
+            return;
+        }
+        do {
+            readComponent(parentStyle, legacyText);
+        } while (tryConsume(','));
+        expect(']');
+    }
+
+    private String readStringOrSkip() throws PingParseException {
+        if (peek() == '"') {
+            return readString();
+        } else {
+            skipValue();
+            return null;
+        }
+    }
+
+    private boolean readBooleanOrSkip(boolean defaultValue) throws PingParseException {
+        byte first = peek();
+        boolean value = defaultValue;
+        if (first == 't') {
+            value = true;
+        } else if (first == 'f') {
+            value = false;
+        }
+        skipValue();
+        return value;
+    }
+
+    private int readIntOrSkip(int defaultValue) throws PingParseException {
+        byte first = peek();
+        int valueStart = pos;
+        skipValue();
+        if (first != '-' && (first < '0' || first > '9')) {
+            return defaultValue;
+        }
+
+        String number = new String(bytes, valueStart, pos - valueStart, StandardCharsets.US_ASCII);
+        try {
+            return (int) Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            throw newParseException("invalid number");
+        }
+    }
+
+    private String readString() throws PingParseException {
+        expect('"');
+        int stringStart = pos;
+
+        // Fast path for strings without escape sequences
+        while (pos < end) {
+            byte b = bytes[pos];
+            if (b == '"') {
+                String string = new String(bytes, stringStart, pos - stringStart, StandardCharsets.UTF_8);
+                pos++;
+                return string;
+            } else if (b == '\\') {
+                break;
+            }
+            pos++;
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append(new String(bytes, stringStart, pos - stringStart, StandardCharsets.UTF_8));
+        while (true) {
+            int runStart = pos;
+            while (pos < end && bytes[pos] != '"' && bytes[pos] != '\\') {
+                pos++;
+            }
+            builder.append(new String(bytes, runStart, pos - runStart, StandardCharsets.UTF_8));
+
+            byte b = next();
+            if (b == '"') {
+                return builder.toString();
+            }
+
+            // Escape sequence
+            byte escaped = next();
+            switch (escaped) {
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    if (end - pos < 4) {
+                        throw newParseException("wrong format");
+                    }
+                    String hex = new String(bytes, pos, 4, StandardCharsets.US_ASCII);
+                    pos += 4;
+                    try {
+                        builder.append((char) Integer.parseInt(hex, 16));
+                    } catch (NumberFormatException e) {
+                        throw newParseException("wrong format");
+                    }
+                    break;
+                default:
+                    builder.append((char) escaped); // Quote, backslash and slash
+                    break;
+            }
+        }
+    }
+
+    private void skipValue() throws PingParseException {
+        byte first = peek();
+        if (first == '"') {
+            skipString();
+        } else if (first == '{' || first == '[') {
+            skipComposite();
+        } else {
+            // Number or literal
+            int valueStart = pos;
+            while (pos < end && !isDelimiter(bytes[pos])) {
+                pos++;
+            }
+            if (pos == valueStart) {
+                throw newParseException("wrong format");
+            }
+        }
+    }
+
+    private void skipString() throws PingParseException {
+        pos++; // Opening quote
+        while (pos < end) {
+            byte b = bytes[pos++];
+            if (b == '"') {
+                return;
+            } else if (b == '\\') {
+                pos++;
+            }
+        }
+        throw newParseException("wrong format");
+    }
+
+    private void skipComposite() throws PingParseException {
+        int depth = 0;
+        while (pos < end) {
+            byte b = bytes[pos];
+            if (b == '"') {
+                skipString();
+                continue;
+            }
+            pos++;
+            if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+                if (depth == 0) {
+                    return;
+                }
+            }
+        }
+        throw newParseException("wrong format");
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return b == ',' || b == '}' || b == ']' || b == ':' || isWhitespace(b);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private void skipWhitespace() {
+        while (pos < end && isWhitespace(bytes[pos])) {
+            pos++;
+        }
+    }
+
+    private byte peek() throws PingParseException {
+        skipWhitespace();
+        if (pos >= end) {
+            throw newParseException("wrong format");
+        }
+        return bytes[pos];
+    }
+
+    private byte next() throws PingParseException {
+        if (pos >= end) {
+            throw newParseException("wrong format");
+        }
+        return bytes[pos++];
+    }
+
+    private boolean tryConsume(char c) throws PingParseException {
+        if (peek() == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) throws PingParseException {
+        if (!tryConsume(c)) {
+            throw newParseException("wrong format");
+        }
+    }
+
+    private PingParseException newParseException(String message) {
+        return new PingParseException(message, new String(bytes, start, end - start, StandardCharsets.UTF_8));
+    }
+
+
+    private static class Style {
+
+        private static final Style ROOT = new Style(null);
+
+        private String colorCode;
+        private boolean bold;
+        private boolean italic;
+        private boolean underlined;
+        private boolean strikethrough;
+        private boolean obfuscated;
+
+        private Style(Style parent) {
+            if (parent != null) {
+                this.colorCode = parent.colorCode;
+                this.bold = parent.bold;
+                this.italic = parent.italic;
+                this.underlined = parent.underlined;
+                this.strikethrough = parent.strikethrough;
+                this.obfuscated = parent.obfuscated;
+            }
+        }
+
+        private void setColor(String color) {
+            if (color == null) {
+                return;
+            }
+
+            if (color.length() == 7 && color.charAt(0) == '#') {
+                StringBuilder hexColorCode = new StringBuilder(14);
+                hexColorCode.append(ChatColor.COLOR_CHAR).append('x');
+                for (int i = 1; i < color.length(); i++) {
+                    hexColorCode.append(ChatColor.COLOR_CHAR).append(color.charAt(i));
+                }
+                this.colorCode = hexColorCode.toString();
+                return;
+            }
+
+            char code = getLegacyCode(color);
+            if (code != 0) {
+                this.colorCode = String.valueOf(ChatColor.COLOR_CHAR) + code;
+            }
+        }
+
+        private void appendTo(StringBuilder legacyText) {
+            if (colorCode != null) {
+                legacyText.append(colorCode);
+            } else {
+                legacyText.append(ChatColor.COLOR_CHAR).append('f');
+            }
+            appendFormat(legacyText, bold, 'l');
+            appendFormat(legacyText, italic, 'o');
+            appendFormat(legacyText, underlined, 'n');
+            appendFormat(legacyText, strikethrough, 'm');
+            appendFormat(legacyText, obfuscated, 'k');
+        }
+
+        private static void appendFormat(StringBuilder legacyText, boolean enabled, char code) {
+            if (enabled) {
+                legacyText.append(ChatColor.COLOR_CHAR).append(code);
+            }
+        }
+
+        private static char getLegacyCode(String colorName) {
+            switch (colorName) {
+                case "black":
+                    return '0';
+                case "dark_blue":
+                    return '1';
+                case "dark_green":
+                    return '2';
+                case "dark_aqua":
+                    return '3';
+                case "dark_red":
+                    return '4';
+                case "dark_purple":
+                    return '5';
+                case "gold":
+                    return '6';
+                case "gray":
+                    return '7';
+                case "dark_gray":
+                    return '8';
+                case "blue":
+                    return '9';
+                case "green":
+                    return 'a';
+                case "aqua":
+                    return 'b';
+                case "red":
+                    return 'c';
+                case "light_purple":
+                    return 'd';
+                case "yellow":
+                    return 'e';
+                case "white":
+                    return 'f';
+                case "reset":
+                    return 'r';
+                default:
+                    return 0; // Unknown, keep the inherited color
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CaseInsensitiveOpenHashMapTest extends CaseInsensitiveMapTest {
+
+    @Override
+    protected CaseInsensitiveMap<Integer> createCaseInsensitiveMap() {
+        return new CaseInsensitiveOpenHashMap<>();
+    }
+
+    @Test
+    void growAndRemove() {
+        CaseInsensitiveMap<Integer> map = createCaseInsensitiveMap();
+        for (int i = 0; i < 1000; i++) {
+            map.put("Key" + i, i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            map.remove("KEY" + i);
+        }
+
+        assertThat(map).hasSize(500);
+        assertThat(map.get("key1")).isEqualTo(1);
+        assertThat(map.get("key2")).isNull();
+        assertThat(map.get(new CaseInsensitiveString("kEy999"))).isEqualTo(999);
+    }
+
+    @Test
+    void reuseRemovedSlots() {
+        CaseInsensitiveMap<Integer> map = createCaseInsensitiveMap();
+        for (int i = 0; i < 1000; i++) {
+            map.put("key", i);
+            map.remove("KEY");
+        }
+        map.put("key", 1);
+
+        assertThat(map).hasSize(1);
+        assertThat(map.get("Key")).isEqualTo(1);
+    }
+
+    @Test
+    void iteratorRemove() {
+        CaseInsensitiveMap<Integer> map = createCaseInsensitiveMap();
+        map.put("A", 1);
+        map.put("B", 2);
+        map.put("C", 3);
+
+        Iterator<Entry<CaseInsensitiveString, Integer>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue() == 2) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(map).hasSize(2);
+        assertThat(map.containsKey("b")).isFalse();
+        assertThat(map.containsKey("c")).isTrue();
+    }
+
+    @Test
+    void nonAsciiKeys() {
+        CaseInsensitiveMap<Integer> map = createCaseInsensitiveMap();
+        map.put("Ärger", 1);
+
+        assertThat(map.get("äRGER")).isEqualTo(1);
+        assertThat(CaseInsensitiveOpenHashMap.hash("ÄRGER")).isEqualTo(CaseInsensitiveOpenHashMap.hash("ärger"));
+    }
+
+    @Test
+    void sameMatchingAsCaseInsensitiveString() {
+        CaseInsensitiveMap<Integer> map = createCaseInsensitiveMap();
+        map.put("straße", 1);
+
+        assertThat(map.get("STRASSE")).isEqualTo(1);
+        assertThat(map.get(new CaseInsensitiveString("Strasse"))).isEqualTo(1);
+        assertThat(map.get("STRAS")).isNull();
+        for (String key : new String[]{"straße", "Ärger", "ascii"}) {
+            assertThat(CaseInsensitiveOpenHashMap.hash(key)).isEqualTo(new CaseInsensitiveString(key).hashCode());
+        }
+    }
+
+    @Test
+    void computeWithStringKeys() {
+        CaseInsensitiveMap<Integer> map = createCaseInsensitiveMap();
+
+        assertThat(map.computeIfAbsent("key", () -> 1)).isEqualTo(1);
+        assertThat(map.computeIfAbsent("KEY", () -> 2)).isEqualTo(1);
+        assertThat(map.compute("Key", value -> value + 1)).isEqualTo(2);
+        assertThat(map.computeIfPresent("kEY", value -> value + 1)).isEqualTo(3);
+        assertThat(map.merge("KEY", 10, Integer::sum)).isEqualTo(13);
+        assertThat(map.removeIf("key", value -> value > 100)).isFalse();
+        assertThat(map.compute("key", value -> null)).isNull();
+
+        assertThat(map).isEmpty();
+    }
+
+    @Test
+    void equalsOtherMap() {
+        CaseInsensitiveMap<Integer> map = createCaseInsensitiveMap();
+        CaseInsensitiveMap<Integer> otherMap = new CaseInsensitiveHashMap<>();
+        map.put("A", 1);
+        otherMap.put("a", 1);
+
+        assertThat(map).isEqualTo(otherMap);
+    }
+
+}
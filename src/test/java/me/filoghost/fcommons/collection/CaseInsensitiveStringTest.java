@@ -38,6 +38,23 @@ class CaseInsensitiveStringTest {
         assertThat(new CaseInsensitiveString("Abc")).isEqualTo(new CaseInsensitiveString("abC"));
     }
 
+    @Test
+    void stringEqualsNonASCII() {
+        assertThat(new CaseInsensitiveString("Straße").equalsIgnoreCase("STRASSE")).isTrue();
+        assertThat(new CaseInsensitiveString("STRASSE").equalsIgnoreCase("straße")).isTrue();
+        assertThat(new CaseInsensitiveString("Abc").equalsIgnoreCase("abcd")).isFalse();
+        assertThat(new CaseInsensitiveString("Abcd").equalsIgnoreCase("abc")).isFalse();
+    }
+
+    @Test
+    void upperCaseSameInstance() {
+        String string = "ABC_1";
+
+        assertThat(CaseInsensitiveString.toUpperCase(string)).isSameAs(string);
+        assertThat(CaseInsensitiveString.toUpperCase("aBc_1")).isEqualTo("ABC_1");
+        assertThat(CaseInsensitiveString.toUpperCase("äbc")).isEqualTo("ÄBC");
+    }
+
     @Test
     void turkeyLocale() {
         Locale systemLocale = Locale.getDefault();
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.collection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ImmutableEnumLookupRegistryTest {
+
+    @Test
+    void lookup() {
+        EnumLookupRegistry<TestEnum> registry = EnumLookupRegistry.fromEnumValues(TestEnum.class);
+        registry.putEnumIfExisting("alias", "SECOND_VALUE");
+        ImmutableEnumLookupRegistry<TestEnum> immutableRegistry = ImmutableEnumLookupRegistry.copyOf(registry);
+
+        assertThat(immutableRegistry.lookup("first value")).isEqualTo(TestEnum.FIRST_VALUE);
+        assertThat(immutableRegistry.lookup("Second-Value")).isEqualTo(TestEnum.SECOND_VALUE);
+        assertThat(immutableRegistry.lookup("_ALIAS_")).isEqualTo(TestEnum.SECOND_VALUE);
+        assertThat(immutableRegistry.lookup("first")).isNull();
+        assertThat(immutableRegistry.lookup("first values")).isNull();
+        assertThat(immutableRegistry.lookup(null)).isNull();
+    }
+
+    @Test
+    void manyKeys() {
+        EnumLookupRegistry<TestEnum> registry = new EnumLookupRegistry<>(TestEnum.class);
+        for (int i = 0; i < 1000; i++) {
+            registry.put("key" + i, TestEnum.values()[i % 2]);
+        }
+        ImmutableEnumLookupRegistry<TestEnum> immutableRegistry = ImmutableEnumLookupRegistry.copyOf(registry);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(immutableRegistry.lookup("KEY " + i)).isEqualTo(TestEnum.values()[i % 2]);
+        }
+        assertThat(immutableRegistry.lookup("key1000")).isNull();
+    }
+
+    @Test
+    void findSimilar() {
+        ImmutableEnumLookupRegistry<TestEnum> registry = ImmutableEnumLookupRegistry.fromEnumValues(TestEnum.class);
+
+        assertThat(registry.findSimilar("frist value", 2)).containsExactly(TestEnum.FIRST_VALUE);
+        assertThat(registry.findByPrefix("sec")).containsExactly(TestEnum.SECOND_VALUE);
+    }
+
+    @Test
+    void fromEnumValuesSameAsCopy() {
+        ReadOnlyLookupRegistry<TestEnum> registry = ImmutableEnumLookupRegistry.fromEnumValues(TestEnum.class);
+        ReadOnlyLookupRegistry<TestEnum> copy = ImmutableEnumLookupRegistry.copyOf(EnumLookupRegistry.fromEnumValues(TestEnum.class));
+
+        for (String key : new String[] {"first value", "SECOND_VALUE", "secondvalue", "first"}) {
+            assertThat(registry.lookup(key)).isEqualTo(copy.lookup(key));
+        }
+        assertThat(registry.findByPrefix("f")).containsExactly(TestEnum.FIRST_VALUE);
+    }
+
+    @Test
+    void repeatedKeyUsesLastValue() {
+        EnumLookupRegistry<TestEnum> registry = new EnumLookupRegistry<>(TestEnum.class);
+        registry.put("key", TestEnum.FIRST_VALUE);
+        registry.put("KEY", TestEnum.SECOND_VALUE);
+
+        assertThat(ImmutableEnumLookupRegistry.copyOf(registry).lookup("Key")).isEqualTo(TestEnum.SECOND_VALUE);
+        assertThat(ImmutableEnumLookupRegistry.fromEnumValues(RepeatedEnum.class).lookup("value")).isEqualTo(RepeatedEnum.VAL_UE);
+    }
+
+
+    private enum TestEnum {
+
+        FIRST_VALUE,
+        SECOND_VALUE
+
+    }
+
+
+    private enum RepeatedEnum {
+
+        VALUE,
+        VAL_UE
+
+    }
+
+}
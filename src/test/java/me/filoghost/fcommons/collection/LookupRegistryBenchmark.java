@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.collection;
+
+import me.filoghost.fcommons.Strings;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Compares the lookups of LookupRegistry with the previous implementation, which stripped the ignored characters
+ * into a new string and looked it up in a CaseInsensitiveHashMap. Not executed by the tests: run the main method
+ * from the test classpath, with "-prof gc" to also compare the allocations per lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LookupRegistryBenchmark {
+
+    private static final int QUERIES_COUNT = 1024; // Power of two, to rotate the queries with a mask
+
+    @Param({"2000"})
+    private int keysCount;
+
+    // Queries with ignored characters and different case, or with non-ASCII characters (slower path of the registry)
+    @Param({"sample material ", "sample-matérial-"})
+    private String queryPrefix;
+
+    private LookupRegistry<Integer> registry;
+    private CaseInsensitiveMap<Integer> previousMap;
+    private String[] queries;
+    private int nextQuery;
+
+    @Setup
+    public void setup() {
+        registry = new LookupRegistry<>();
+        previousMap = new CaseInsensitiveHashMap<>();
+        for (int i = 0; i < keysCount; i++) {
+            String key = queryPrefix.toUpperCase(Locale.ROOT).replace(' ', '_').replace('-', '_') + i;
+            registry.put(key, i);
+            previousMap.put(Strings.stripChars(key, LookupRegistry.KEY_IGNORE_CHARS), i);
+        }
+
+        queries = new String[QUERIES_COUNT];
+        for (int i = 0; i < QUERIES_COUNT; i++) {
+            queries[i] = queryPrefix + (i * 7 % keysCount);
+        }
+    }
+
+    @Benchmark
+    public Integer lookupRegistry() {
+        return registry.lookup(nextQuery());
+    }
+
+    @Benchmark
+    public Integer lookupPreviousImplementation() {
+        return previousMap.get(Strings.stripChars(nextQuery(), LookupRegistry.KEY_IGNORE_CHARS));
+    }
+
+    private String nextQuery() {
+        String query = queries[nextQuery];
+        nextQuery = (nextQuery + 1) & (QUERIES_COUNT - 1);
+        return query;
+    }
+
+    /*
+     * Accepts the JMH command line arguments, for example "-prof gc".
+     */
+    public static void main(String[] args) throws RunnerException, IOException {
+        String[] jmhArgs = new String[args.length + 1];
+        jmhArgs[0] = LookupRegistryBenchmark.class.getSimpleName();
+        System.arraycopy(args, 0, jmhArgs, 1, args.length);
+        Main.main(jmhArgs);
+    }
+
+}
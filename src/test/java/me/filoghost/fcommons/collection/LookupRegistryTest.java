@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.collection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LookupRegistryTest {
+
+    @Test
+    void lookupIgnoresCaseAndChars() {
+        LookupRegistry<Integer> registry = new LookupRegistry<>();
+        registry.put("Stone_Brick", 1);
+
+        assertThat(registry.lookup("stone brick")).isEqualTo(1);
+        assertThat(registry.lookup("STONE-BRICK")).isEqualTo(1);
+        assertThat(registry.lookup("_stonebrick_")).isEqualTo(1);
+    }
+
+    @Test
+    void lookupNonAsciiKey() {
+        LookupRegistry<Integer> registry = new LookupRegistry<>();
+        registry.put("Große_Straße", 1);
+
+        assertThat(registry.lookup("GROSSE STRASSE")).isEqualTo(1);
+        assertThat(registry.lookup("große-straße")).isEqualTo(1);
+        assertThat(registry.lookup("GROSSESTRASS")).isNull();
+    }
+
+    @Test
+    void lookupDifferentKey() {
+        LookupRegistry<Integer> registry = new LookupRegistry<>();
+        registry.put("stone", 1);
+
+        assertThat(registry.lookup("stones")).isNull();
+        assertThat(registry.lookup("ston")).isNull();
+        assertThat(registry.lookup("")).isNull();
+        assertThat(registry.lookup(null)).isNull();
+    }
+
+    @Test
+    void enumLookup() {
+        EnumLookupRegistry<TestEnum> registry = EnumLookupRegistry.fromEnumValues(TestEnum.class);
+        registry.putEnumIfExisting("alias", "SECOND_VALUE");
+
+        assertThat(registry.lookup("first value")).isEqualTo(TestEnum.FIRST_VALUE);
+        assertThat(registry.lookup("Alias")).isEqualTo(TestEnum.SECOND_VALUE);
+    }
+
+    @Test
+    void findByPrefix() {
+        EnumLookupRegistry<TestEnum> registry = EnumLookupRegistry.fromEnumValues(TestEnum.class);
+        registry.putEnumIfExisting("alias", "SECOND_VALUE");
+
+        assertThat(registry.findByPrefix("first v")).containsExactly(TestEnum.FIRST_VALUE);
+        assertThat(registry.findByPrefix("")).containsExactly(TestEnum.SECOND_VALUE, TestEnum.FIRST_VALUE);
+        assertThat(registry.findByPrefix("third")).isEmpty();
+    }
+
+    @Test
+    void findSimilar() {
+        EnumLookupRegistry<TestEnum> registry = EnumLookupRegistry.fromEnumValues(TestEnum.class);
+
+        assertThat(registry.findSimilar("frist value", 2)).containsExactly(TestEnum.FIRST_VALUE);
+        assertThat(registry.findSimilar("second valu", 1)).containsExactly(TestEnum.SECOND_VALUE);
+        assertThat(registry.findSimilar("xyz", 2)).isEmpty();
+    }
+
+    @Test
+    void findSimilarAfterPut() {
+        LookupRegistry<Integer> registry = new LookupRegistry<>();
+        registry.put("stone", 1);
+        assertThat(registry.findSimilar("stones", 1)).containsExactly(1);
+
+        registry.put("stones", 2);
+        assertThat(registry.findSimilar("stones", 1)).containsExactly(2, 1);
+    }
+
+
+    private enum TestEnum {
+
+        FIRST_VALUE,
+        SECOND_VALUE
+
+    }
+
+}
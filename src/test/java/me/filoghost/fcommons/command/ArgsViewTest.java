@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArgsViewTest {
+
+    @Test
+    void testSubView() {
+        ArgsView args = ArgsView.of(new String[]{"a", "b", "c"});
+        ArgsView subView = args.subView(1);
+
+        assertThat(subView.size()).isEqualTo(2);
+        assertThat(subView.get(0)).isEqualTo("b");
+        assertThat(subView.subView(2).isEmpty()).isTrue();
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> subView.get(2));
+    }
+
+    @Test
+    void testJoin() {
+        ArgsView args = new ArgsView(new String[]{"a", "b", "c", "d"}, 1);
+
+        assertThat(args.join(0)).isEqualTo("b c d");
+        assertThat(args.join(2)).isEqualTo("d");
+        assertThat(args.join(3)).isEmpty();
+    }
+
+    @Test
+    void testToArray() {
+        String[] array = {"a", "b", "c"};
+
+        assertThat(ArgsView.of(array).toArray()).isSameAs(array);
+        assertThat(new ArgsView(array, 2).toArray()).containsExactly("c");
+    }
+
+    @Test
+    void testContextArgsMaterializedOnce() {
+        CommandContext context = new CommandContext(null, null, new ArgsView(new String[]{"a", "b"}, 1));
+
+        assertThat(context.getArgs()).containsExactly("b");
+        assertThat(context.getArgs()).isSameAs(context.getArgs());
+    }
+
+}
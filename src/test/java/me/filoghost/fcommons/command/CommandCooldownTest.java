@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CommandCooldownTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final UUID player1 = UUID.randomUUID();
+    private final UUID player2 = UUID.randomUUID();
+
+    @Test
+    void testSingleUse() {
+        CommandCooldown cooldown = new CommandCooldown(1, 10, TimeUnit.SECONDS);
+        long start = System.nanoTime();
+
+        assertThat(cooldown.tryUse(player1, start)).isZero();
+        assertThat(cooldown.tryUse(player1, start + 4 * SECOND)).isEqualTo(6 * SECOND);
+        assertThat(cooldown.tryUse(player1, start + 10 * SECOND)).isZero();
+    }
+
+    @Test
+    void testMultipleUses() {
+        CommandCooldown cooldown = new CommandCooldown(3, 30, TimeUnit.SECONDS);
+        long start = System.nanoTime();
+
+        assertThat(cooldown.tryUse(player1, start)).isZero();
+        assertThat(cooldown.tryUse(player1, start)).isZero();
+        assertThat(cooldown.tryUse(player1, start)).isZero();
+        assertThat(cooldown.tryUse(player1, start)).isEqualTo(10 * SECOND);
+
+        // A single use is refilled after a third of the period
+        assertThat(cooldown.tryUse(player1, start + 10 * SECOND)).isZero();
+        assertThat(cooldown.tryUse(player1, start + 10 * SECOND)).isPositive();
+    }
+
+    @Test
+    void testRejectedUsesAreNotConsumed() {
+        CommandCooldown cooldown = new CommandCooldown(1, 10, TimeUnit.SECONDS);
+        long start = System.nanoTime();
+
+        cooldown.tryUse(player1, start);
+        for (int i = 1; i < 10; i++) {
+            assertThat(cooldown.tryUse(player1, start + i * SECOND)).isPositive();
+        }
+        assertThat(cooldown.tryUse(player1, start + 10 * SECOND)).isZero();
+    }
+
+    @Test
+    void testPlayersAreIndependent() {
+        CommandCooldown cooldown = new CommandCooldown(1, 10, TimeUnit.SECONDS);
+        long start = System.nanoTime();
+
+        assertThat(cooldown.tryUse(player1, start)).isZero();
+        assertThat(cooldown.tryUse(player2, start)).isZero();
+        assertThat(cooldown.tryUse(player1, start)).isPositive();
+
+        cooldown.reset(player1);
+        assertThat(cooldown.tryUse(player1, start)).isZero();
+    }
+
+    @Test
+    void testExpiredPlayersAreRemoved() {
+        CommandCooldown cooldown = new CommandCooldown(1, 10, TimeUnit.SECONDS);
+        long start = System.nanoTime();
+
+        cooldown.tryUse(player1, start);
+        cooldown.tryUse(player2, start + 5 * SECOND);
+        assertThat(cooldown.getTrackedPlayersCount()).isEqualTo(2);
+
+        // Triggers the cleanup, only the bucket of the first player is full again
+        cooldown.tryUse(player2, start + 11 * SECOND);
+        assertThat(cooldown.getTrackedPlayersCount()).isEqualTo(1);
+    }
+
+}
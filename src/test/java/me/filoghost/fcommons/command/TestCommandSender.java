@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command;
+
+import org.bukkit.command.CommandSender;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Fake command sender for tests, named "testSender", which collects the received messages and has only the given
+ * permissions. Other methods throw UnsupportedOperationException.
+ */
+public final class TestCommandSender {
+
+    private TestCommandSender() {}
+
+    public static CommandSender create(List<String> messages, String... permissions) {
+        List<String> permissionsList = Arrays.asList(permissions);
+        return (CommandSender) Proxy.newProxyInstance(
+                TestCommandSender.class.getClassLoader(),
+                new Class<?>[]{CommandSender.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("hasPermission") && args[0] instanceof String) {
+                        return permissionsList.contains(args[0]);
+                    } else if (method.getName().equals("sendMessage") && args[0] instanceof String) {
+                        messages.add((String) args[0]);
+                        return null;
+                    } else if (method.getName().equals("getName")) {
+                        return "testSender";
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.metrics;
+
+import me.filoghost.fcommons.command.CommandContext;
+import me.filoghost.fcommons.command.metrics.InMemoryCommandMetrics.CommandMetrics;
+import me.filoghost.fcommons.command.sub.SubCommandContext;
+import me.filoghost.fcommons.command.sub.annotated.Aliases;
+import me.filoghost.fcommons.command.sub.annotated.AnnotatedSubCommandGroup;
+import me.filoghost.fcommons.command.sub.annotated.AnnotatedSubCommandManager;
+import me.filoghost.fcommons.command.sub.annotated.Name;
+import me.filoghost.fcommons.command.validation.CommandException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InMemoryCommandMetricsTest {
+
+    @Test
+    void testSubCommandsRecorded() throws CommandException {
+        InMemoryCommandMetrics metrics = new InMemoryCommandMetrics();
+        TestImplementation manager = new TestImplementation();
+        manager.setMetricsListener(metrics);
+
+        execute(manager, "success");
+        execute(manager, "Success");
+        assertThatExceptionOfType(CommandException.class).isThrownBy(() -> execute(manager, "fail"));
+        assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> execute(manager, "crash"));
+
+        CommandMetrics successMetrics = metrics.getCommandMetrics("test success");
+        assertThat(successMetrics).isNotNull();
+        assertThat(successMetrics.getExecutions()).isEqualTo(2);
+        assertThat(successMetrics.getCommandErrors()).isZero();
+        assertThat(successMetrics.getUnexpectedErrors()).isZero();
+
+        CommandMetrics failMetrics = metrics.getCommandMetrics("test fail");
+        assertThat(failMetrics).isNotNull();
+        assertThat(failMetrics.getExecutions()).isEqualTo(1);
+        assertThat(failMetrics.getCommandErrors()).isEqualTo(1);
+
+        CommandMetrics crashMetrics = metrics.getCommandMetrics("test crash");
+        assertThat(crashMetrics).isNotNull();
+        assertThat(crashMetrics.getUnexpectedErrors()).isEqualTo(1);
+
+        assertThat(metrics.getAllCommandMetrics())
+                .extracting(CommandMetrics::getCommandPath)
+                .containsExactlyInAnyOrder("test success", "test fail", "test crash");
+    }
+
+    @Test
+    void testUnknownSubCommandNotRecorded() throws CommandException {
+        InMemoryCommandMetrics metrics = new InMemoryCommandMetrics();
+        TestImplementation manager = new TestImplementation();
+        manager.setMetricsListener(metrics);
+
+        execute(manager, "unknown");
+
+        assertThat(metrics.getAllCommandMetrics()).isEmpty();
+    }
+
+    @Test
+    void testNestedSubCommandPath() throws CommandException {
+        InMemoryCommandMetrics metrics = new InMemoryCommandMetrics();
+        TestImplementation manager = new TestImplementation();
+        manager.setMetricsListener(metrics);
+
+        execute(manager, "G", "nested");
+
+        CommandMetrics nestedMetrics = metrics.getCommandMetrics("test group nested");
+        assertThat(nestedMetrics).isNotNull();
+        assertThat(nestedMetrics.getExecutions()).isEqualTo(1);
+    }
+
+    @Test
+    void testReset() {
+        InMemoryCommandMetrics metrics = new InMemoryCommandMetrics();
+        metrics.onExecute(new TestImplementation(), null, 1000, null);
+        assertThat(metrics.getCommandMetrics("test")).isNotNull();
+
+        metrics.reset();
+
+        assertThat(metrics.getCommandMetrics("test")).isNull();
+    }
+
+    private void execute(TestImplementation manager, String... args) throws CommandException {
+        CommandContext context = new CommandContext(null, "test", args);
+        manager.execute(context.getSender(), context.getArgs(), context);
+    }
+
+
+    private static class TestImplementation extends AnnotatedSubCommandManager {
+
+        private TestImplementation() {
+            setName("test");
+            registerSubCommand(new TestGroup());
+        }
+
+        @Name("success")
+        public void success() {}
+
+        @Name("fail")
+        public void fail() throws CommandException {
+            throw new CommandException("error");
+        }
+
+        @Name("crash")
+        public void crash() {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        protected void sendUnknownSubCommandMessage(SubCommandContext context) {}
+
+    }
+
+
+    @Name("group")
+    @Aliases("g")
+    private static class TestGroup extends AnnotatedSubCommandGroup {
+
+        @Name("nested")
+        public void nested() {}
+
+    }
+
+}
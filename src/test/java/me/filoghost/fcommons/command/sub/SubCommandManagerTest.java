@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.sub;
+
+import me.filoghost.fcommons.command.CommandContext;
+import me.filoghost.fcommons.command.TestCommandSender;
+import me.filoghost.fcommons.command.sub.annotated.AnnotatedSubCommand;
+import me.filoghost.fcommons.command.sub.annotated.AnnotatedSubCommandManager;
+import me.filoghost.fcommons.command.sub.annotated.Name;
+import me.filoghost.fcommons.command.sub.annotated.Permission;
+import me.filoghost.fcommons.command.sub.annotated.UsageArgs;
+import me.filoghost.fcommons.command.validation.CommandException;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SubCommandManagerTest {
+
+    @Test
+    void testAccessibleSubCommands() {
+        TestImplementation manager = new TestImplementation();
+
+        assertThat(manager.getAccessibleSubCommands(TestCommandSender.create(new ArrayList<>())))
+                .extracting(SubCommand::getName)
+                .containsExactly("a", "b");
+        assertThat(manager.getAccessibleSubCommands(TestCommandSender.create(new ArrayList<>(), "test.admin")))
+                .extracting(SubCommand::getName)
+                .containsExactly("a", "b", "c", "d");
+    }
+
+    @Test
+    void testAccessibleSubCommandsCachedByPermissions() {
+        TestImplementation manager = new TestImplementation();
+
+        CommandSender sender1 = TestCommandSender.create(new ArrayList<>(), "test.admin");
+        CommandSender sender2 = TestCommandSender.create(new ArrayList<>(), "test.admin");
+
+        Iterable<? extends SubCommand> accessible1 = manager.getAccessibleSubCommands(sender1);
+        Iterable<? extends SubCommand> accessible2 = manager.getAccessibleSubCommands(sender2);
+
+        assertThat(accessible1).isSameAs(accessible2);
+    }
+
+    @Test
+    void testAccessibleSubCommandsAfterPermissionChange() {
+        TestImplementation manager = new TestImplementation();
+        CommandSender sender = TestCommandSender.create(new ArrayList<>());
+        manager.getAccessibleSubCommands(sender);
+
+        manager.subCommandC.setPermission(null);
+
+        assertThat(manager.getAccessibleSubCommands(sender))
+                .extracting(SubCommand::getName)
+                .containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void testSubCommandNameCompletions() {
+        TestImplementation manager = new TestImplementation();
+
+        CommandSender sender = TestCommandSender.create(new ArrayList<>());
+        CommandSender adminSender = TestCommandSender.create(new ArrayList<>(), "test.admin");
+
+        assertThat(manager.getSubCommandNameCompletions(sender, "")).containsExactly("a", "b");
+        assertThat(manager.getSubCommandNameCompletions(adminSender, "D")).containsExactly("d");
+    }
+
+    @Test
+    void testHelpPages() {
+        TestImplementation manager = new TestImplementation();
+        manager.setHelpPageSize(3);
+        List<String> messages = new ArrayList<>();
+        CommandContext context = new CommandContext(TestCommandSender.create(messages, "test.admin"), "test", new String[0]);
+
+        manager.sendHelpPage(context, 2);
+
+        assertThat(messages).containsExactly(
+                ChatColor.WHITE + "/test commands (page 2/2):",
+                ChatColor.GRAY + "/test d <arg>");
+    }
+
+    @Test
+    void testHelpPageArgument() throws CommandException {
+        TestImplementation manager = new TestImplementation();
+        manager.setHelpPageSize(3);
+        List<String> messages = new ArrayList<>();
+        CommandContext context = new CommandContext(TestCommandSender.create(messages, "test.admin"), "test", new String[]{"1"});
+
+        manager.execute(context.getSender(), context.getArgs(), context);
+
+        assertThat(messages).containsExactly(
+                ChatColor.WHITE + "/test commands (page 1/2):",
+                ChatColor.GRAY + "/test a",
+                ChatColor.GRAY + "/test b",
+                ChatColor.GRAY + "/test c",
+                ChatColor.GRAY + "Use /test 2 to see the next page.");
+    }
+
+    @Test
+    void testUsageTextOfSubCommandContext() {
+        TestImplementation manager = new TestImplementation();
+        SubCommand subCommand = manager.subCommandD;
+        CommandContext context = new CommandContext(TestCommandSender.create(new ArrayList<>()), "test", new String[]{"d"});
+        SubCommandContext subContext = new SubCommandContext(context, context.getArgsView().subView(1), subCommand, "d");
+
+        assertThat(manager.getUsageText(subContext, subCommand)).isEqualTo("/test d <arg>");
+        assertThat(manager.getUsageText(context, subCommand)).isEqualTo("/test d <arg>");
+    }
+
+    @Test
+    void testHelpPageOutOfRange() {
+        TestImplementation manager = new TestImplementation();
+        List<String> messages = new ArrayList<>();
+        CommandContext context = new CommandContext(TestCommandSender.create(messages), "test", new String[0]);
+
+        manager.sendHelpPage(context, 5);
+
+        assertThat(messages).containsExactly(
+                ChatColor.WHITE + "/test commands:",
+                ChatColor.GRAY + "/test a",
+                ChatColor.GRAY + "/test b");
+    }
+
+
+    private static class TestImplementation extends AnnotatedSubCommandManager {
+
+        private final AnnotatedSubCommand subCommandC = getSubCommandByName("c");
+        private final AnnotatedSubCommand subCommandD = getSubCommandByName("d");
+
+        @Name("a")
+        public void a() {}
+
+        @Name("b")
+        public void b() {}
+
+        @Name("c")
+        @Permission("test.admin")
+        public void c() {}
+
+        @Name("d")
+        @Permission("test.admin")
+        @UsageArgs("<arg>")
+        public void d() {}
+
+    }
+
+}
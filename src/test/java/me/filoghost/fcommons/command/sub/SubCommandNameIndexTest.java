@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.sub;
+
+import me.filoghost.fcommons.command.TestCommandSender;
+import org.bukkit.command.CommandSender;
+import org.bukkit.permissions.Permissible;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SubCommandNameIndexTest {
+
+    @Test
+    void testPrefix() {
+        SubCommandNameIndex index = createIndex();
+
+        assertThat(index.getCompletions(permissibleWith(), "re")).containsExactly("reload", "Remove");
+        assertThat(index.getCompletions(permissibleWith(), "REL")).containsExactly("reload");
+        assertThat(index.getCompletions(permissibleWith(), "x")).isEmpty();
+    }
+
+    @Test
+    void testEmptyPrefix() {
+        SubCommandNameIndex index = createIndex();
+
+        assertThat(index.getCompletions(permissibleWith(), "")).containsExactly("add", "list", "reload", "Remove");
+    }
+
+    @Test
+    void testNonAsciiPrefix() {
+        SubCommandNameIndex index = createIndex();
+        index.add("straße", new TestSubCommand("straße", null));
+
+        assertThat(index.getCompletions(permissibleWith(), "STRASS")).containsExactly("straße");
+        assertThat(index.getCompletions(permissibleWith(), "straß")).containsExactly("straße");
+    }
+
+    @Test
+    void testPermission() {
+        SubCommandNameIndex index = createIndex();
+        index.add("restricted", new TestSubCommand("restricted", "test.restricted"));
+
+        assertThat(index.getCompletions(permissibleWith(), "re")).containsExactly("reload", "Remove");
+        assertThat(index.getCompletions(permissibleWith("test.restricted"), "re")).containsExactly("reload", "Remove", "restricted");
+    }
+
+    @Test
+    void testCompletionsAreMutable() {
+        SubCommandNameIndex index = createIndex();
+
+        List<String> completions = index.getCompletions(permissibleWith(), "x");
+        completions.add("test");
+
+        assertThat(completions).containsExactly("test");
+    }
+
+    private SubCommandNameIndex createIndex() {
+        SubCommandNameIndex index = new SubCommandNameIndex();
+        for (String name : new String[]{"reload", "list", "Remove", "add"}) {
+            index.add(name, new TestSubCommand(name, null));
+        }
+        return index;
+    }
+
+    private Permissible permissibleWith(String... permissions) {
+        return TestCommandSender.create(new ArrayList<>(), permissions);
+    }
+
+
+    private static class TestSubCommand implements SubCommand {
+
+        private final String name;
+        private final String permission;
+
+        private TestSubCommand(String name, String permission) {
+            this.name = name;
+            this.permission = permission;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getPermission() {
+            return permission;
+        }
+
+        @Override
+        public String getPermissionMessage() {
+            return null;
+        }
+
+        @Override
+        public String getUsageArgs() {
+            return null;
+        }
+
+        @Override
+        public int getMinArgs() {
+            return 0;
+        }
+
+        @Override
+        public void execute(CommandSender sender, String[] args, SubCommandContext context) {}
+
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.sub.annotated;
+
+import me.filoghost.fcommons.command.CommandContext;
+import me.filoghost.fcommons.command.validation.CommandException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AnnotatedMethodSubCommandTest {
+
+    @Test
+    void testTypedArguments() throws CommandException {
+        TestImplementation manager = new TestImplementation();
+
+        execute(manager, "typed", "5", "2.5", "minutes");
+
+        assertThat(manager.intArg).isEqualTo(5);
+        assertThat(manager.doubleArg).isEqualTo(2.5);
+        assertThat(manager.enumArg).isEqualTo(TimeUnit.MINUTES);
+    }
+
+    @Test
+    void testGreedyArgument() throws CommandException {
+        TestImplementation manager = new TestImplementation();
+
+        execute(manager, "greedy", "first", "second", "third");
+
+        assertThat(manager.stringArg).isEqualTo("first");
+        assertThat(manager.greedyArg).isEqualTo("second third");
+    }
+
+    @Test
+    void testMinArgsFromArguments() {
+        TestImplementation manager = new TestImplementation();
+
+        assertThat(manager.getSubCommandByName("typed").getMinArgs()).isEqualTo(3);
+        assertThat(manager.getSubCommandByName("greedy").getMinArgs()).isEqualTo(2);
+    }
+
+    @Test
+    void testInvalidArgument() {
+        TestImplementation manager = new TestImplementation();
+
+        assertThatExceptionOfType(CommandException.class)
+                .isThrownBy(() -> execute(manager, "typed", "abc", "2.5", "minutes"))
+                .withMessage("Invalid integer number \"abc\".");
+        assertThatExceptionOfType(CommandException.class)
+                .isThrownBy(() -> execute(manager, "typed", "5", "2.5", "weeks"))
+                .withMessage("Invalid value \"weeks\".");
+    }
+
+    @Test
+    void testUnsupportedParameter() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(UnsupportedParameterImplementation::new);
+    }
+
+    @Test
+    void testParameterAfterGreedy() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(ParameterAfterGreedyImplementation::new);
+    }
+
+    private void execute(AnnotatedSubCommandManager manager, String... args) throws CommandException {
+        CommandContext context = new CommandContext(null, null, args);
+        manager.execute(context.getSender(), context.getArgs(), context);
+    }
+
+
+    private static class TestImplementation extends AnnotatedSubCommandManager {
+
+        private int intArg;
+        private double doubleArg;
+        private TimeUnit enumArg;
+        private String stringArg;
+        private String greedyArg;
+
+        @Name("typed")
+        public void typed(int intArg, double doubleArg, TimeUnit enumArg) {
+            this.intArg = intArg;
+            this.doubleArg = doubleArg;
+            this.enumArg = enumArg;
+        }
+
+        @Name("greedy")
+        public void greedy(String[] args, String stringArg, @Greedy String greedyArg) {
+            this.stringArg = stringArg;
+            this.greedyArg = greedyArg;
+        }
+
+    }
+
+
+    private static class UnsupportedParameterImplementation extends AnnotatedSubCommandManager {
+
+        @Name("unsupported")
+        public void unsupported(Object object) {}
+
+    }
+
+
+    private static class ParameterAfterGreedyImplementation extends AnnotatedSubCommandManager {
+
+        @Name("afterGreedy")
+        public void afterGreedy(@Greedy String greedyArg, int intArg) {}
+
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.command.sub.annotated;
+
+import me.filoghost.fcommons.command.CommandContext;
+import me.filoghost.fcommons.command.TestCommandSender;
+import me.filoghost.fcommons.command.sub.SubCommandContext;
+import me.filoghost.fcommons.command.validation.CommandException;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AnnotatedSubCommandGroupTest {
+
+    private final List<String> messages = new ArrayList<>();
+    private final CommandSender sender = TestCommandSender.create(messages);
+
+    @Test
+    void testNestedCall() throws CommandException {
+        TestImplementation manager = new TestImplementation();
+
+        execute(manager, "group", "NESTED", "info", "testArg", "5");
+
+        assertThat(manager.nestedGroup.infoArg).isEqualTo("testArg");
+        assertThat(manager.nestedGroup.infoNumber).isEqualTo(5);
+        assertThat(manager.nestedGroup.infoCommandPath).isEqualTo("test group NESTED info");
+    }
+
+    @Test
+    void testGroupAlias() throws CommandException {
+        TestImplementation manager = new TestImplementation();
+
+        execute(manager, "g", "direct", "testArg");
+
+        assertThat(manager.group.directArg).isEqualTo("testArg");
+    }
+
+    @Test
+    void testUnknownNestedSubCommand() throws CommandException {
+        TestImplementation manager = new TestImplementation();
+
+        execute(manager, "group", "unknown");
+
+        assertThat(messages).containsExactly(
+                ChatColor.RED + "Unknown sub-command \"unknown\". Use /test group to see available commands.");
+    }
+
+    @Test
+    void testNestedUsage() throws CommandException {
+        TestImplementation manager = new TestImplementation();
+
+        execute(manager, "group", "nested", "info", "testArg");
+
+        assertThat(messages).containsExactly(ChatColor.RED + "Command usage: /test group nested info <arg> <number>");
+    }
+
+    @Test
+    void testNestedPermission() throws CommandException {
+        TestImplementation manager = new TestImplementation();
+
+        execute(manager, "group", "admin");
+
+        assertThat(messages).containsExactly(ChatColor.RED + "You don't have permission for this sub-command.");
+    }
+
+    @Test
+    void testNestedDefaultPermission() {
+        TestImplementation manager = new TestImplementation() {
+            @Override
+            protected String getDefaultSubCommandPermission(AnnotatedSubCommand subCommand) {
+                return "test." + subCommand.getName();
+            }
+        };
+
+        assertThat(manager.group.getSubCommandByName("direct").getPermission()).isEqualTo("test.direct");
+        assertThat(manager.group.getSubCommandByName("admin").getPermission()).isEqualTo("test.admin");
+        assertThat(manager.nestedGroup.getSubCommandByName("info").getPermission()).isEqualTo("test.info");
+    }
+
+    @Test
+    void testDirectGroupExecution() throws CommandException {
+        TestImplementation manager = new TestImplementation();
+        CommandContext context = new CommandContext(sender, "test", new String[]{"group", "direct", "testArg"});
+        SubCommandContext groupContext = new SubCommandContext(context, context.getArgsView().subView(1), manager.group, "group");
+
+        manager.group.execute(groupContext);
+
+        assertThat(manager.group.directArg).isEqualTo("testArg");
+    }
+
+    @Test
+    void testDirectGroupExecutionUsage() {
+        TestImplementation manager = new TestImplementation();
+        CommandContext context = new CommandContext(sender, "test", new String[]{"group", "direct"});
+        SubCommandContext groupContext = new SubCommandContext(context, context.getArgsView().subView(1), manager.group, "group");
+
+        assertThatExceptionOfType(CommandException.class)
+                .isThrownBy(() -> manager.group.execute(groupContext))
+                .withMessage("Command usage: /test group direct <arg>");
+    }
+
+    @Test
+    void testGroupHelp() throws CommandException {
+        TestImplementation manager = new TestImplementation();
+
+        execute(manager, "group");
+
+        assertThat(messages).containsExactly(
+                ChatColor.WHITE + "/test group commands:",
+                ChatColor.GRAY + "/test group direct <arg>",
+                ChatColor.GRAY + "/test group nested");
+    }
+
+    @Test
+    void testNestedTabComplete() {
+        TestImplementation manager = new TestImplementation();
+        String[] args = {"group", "nested", "I"};
+
+        List<String> completions = manager.tabComplete(sender, args, new CommandContext(sender, "test", args));
+
+        assertThat(completions).containsExactly("info");
+    }
+
+    private void execute(TestImplementation manager, String... args) throws CommandException {
+        CommandContext context = new CommandContext(sender, "test", args);
+        manager.execute(context.getSender(), context.getArgs(), context);
+    }
+
+
+    private static class TestImplementation extends AnnotatedSubCommandManager {
+
+        private final TestGroup group;
+        private final TestNestedGroup nestedGroup;
+
+        private TestImplementation() {
+            this.nestedGroup = new TestNestedGroup();
+            this.group = new TestGroup(nestedGroup);
+            registerSubCommand(group);
+        }
+
+    }
+
+
+    @Name("group")
+    @Aliases("g")
+    private static class TestGroup extends AnnotatedSubCommandGroup {
+
+        private String directArg;
+
+        private TestGroup(TestNestedGroup nestedGroup) {
+            registerSubCommand(nestedGroup);
+        }
+
+        @Name("direct")
+        @UsageArgs("<arg>")
+        public void direct(String arg) {
+            directArg = arg;
+        }
+
+        @Name("admin")
+        @Permission("test.admin")
+        public void admin() {}
+
+    }
+
+
+    @Name("nested")
+    private static class TestNestedGroup extends AnnotatedSubCommandGroup {
+
+        private String infoArg;
+        private int infoNumber;
+        private String infoCommandPath;
+
+        @Name("info")
+        @UsageArgs("<arg> <number>")
+        public void info(SubCommandContext context, String arg, int number) {
+            infoArg = arg;
+            infoNumber = number;
+            infoCommandPath = context.getCommandPath();
+        }
+
+    }
+
+}
@@ -6,12 +6,17 @@
 package me.filoghost.fcommons.command.sub.annotated;
 
 import me.filoghost.fcommons.command.CommandContext;
+import me.filoghost.fcommons.command.TestCommandSender;
 import me.filoghost.fcommons.command.sub.SubCommand;
 import me.filoghost.fcommons.command.sub.SubCommandContext;
 import me.filoghost.fcommons.command.validation.CommandException;
 import org.bukkit.command.CommandSender;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 class AnnotatedSubCommandManagerTest {
@@ -43,6 +48,115 @@ class AnnotatedSubCommandManagerTest {
         assertThat(manager.bArg0).isEqualTo("testArgB");
     }
 
+    @Test
+    void testAliasCall() throws CommandException {
+        TestImplementation manager = new TestImplementation();
+
+        CommandContext context = new CommandContext(null, null, new String[]{"LAST", "testArgZ"});
+        manager.execute(context.getSender(), context.getArgs(), context);
+
+        assertThat(manager.zArg0).isEqualTo("testArgZ");
+        assertThat(manager.getSubCommandByName("final")).extracting(SubCommand::getName).isEqualTo("z");
+        assertThat(manager.getSubCommands()).hasSize(5);
+    }
+
+    @Test
+    void testTabComplete() {
+        TestImplementation manager = new TestImplementation();
+
+        assertThat(tabComplete(manager, "L")).containsExactly("last");
+        assertThat(tabComplete(manager, "")).containsExactly("a", "B", "c", "D", "final", "last", "z");
+        assertThat(tabComplete(manager, "b", "")).containsExactly("testCompletion");
+        assertThat(tabComplete(manager, "unknown", "")).isEmpty();
+    }
+
+    @Test
+    void testAsyncExecution() throws CommandException {
+        AsyncTestImplementation manager = new AsyncTestImplementation();
+        List<Runnable> asyncTasks = new ArrayList<>();
+        manager.setAsyncExecutor(asyncTasks::add);
+        manager.setMainThreadExecutor(Runnable::run);
+
+        execute(manager, "async", "testArg");
+        assertThat(manager.asyncArg0).isNull();
+
+        assertThat(asyncTasks).hasSize(1);
+        asyncTasks.get(0).run();
+        assertThat(manager.asyncArg0).isEqualTo("testArg");
+    }
+
+    @Test
+    void testAsyncArgumentsParsedBeforeHandoff() throws CommandException {
+        AsyncTestImplementation manager = new AsyncTestImplementation();
+        List<Runnable> asyncTasks = new ArrayList<>();
+        manager.setAsyncExecutor(asyncTasks::add);
+        manager.setMainThreadExecutor(Runnable::run);
+
+        assertThatExceptionOfType(CommandException.class).isThrownBy(() -> execute(manager, "number", "invalid"));
+        assertThat(asyncTasks).isEmpty();
+
+        execute(manager, "number", "5");
+        assertThat(asyncTasks).hasSize(1);
+        asyncTasks.get(0).run();
+        assertThat(manager.asyncNumber).isEqualTo(5);
+    }
+
+    @Test
+    void testAsyncErrorIsReported() throws CommandException {
+        AsyncTestImplementation manager = new AsyncTestImplementation();
+        List<Runnable> mainThreadTasks = new ArrayList<>();
+        manager.setAsyncExecutor(Runnable::run);
+        manager.setMainThreadExecutor(mainThreadTasks::add);
+
+        execute(manager, "fail");
+        assertThat(manager.errorMessages).isEmpty();
+
+        assertThat(mainThreadTasks).hasSize(1);
+        mainThreadTasks.get(0).run();
+        assertThat(manager.errorMessages).containsExactly("testError");
+    }
+
+    @Test
+    void testAsyncExecutionsLimit() throws CommandException {
+        AsyncTestImplementation manager = new AsyncTestImplementation();
+        List<Runnable> asyncTasks = new ArrayList<>();
+        manager.setAsyncExecutor(asyncTasks::add);
+        manager.setMainThreadExecutor(Runnable::run);
+        manager.setMaxAsyncExecutionsPerSender(1);
+
+        execute(manager, "async", "first");
+        execute(manager, "async", "second");
+        assertThat(asyncTasks).hasSize(1);
+        assertThat(manager.limitMessagesCount).isEqualTo(1);
+
+        asyncTasks.get(0).run();
+        execute(manager, "async", "third");
+        assertThat(asyncTasks).hasSize(2);
+        assertThat(manager.limitMessagesCount).isEqualTo(1);
+    }
+
+    @Test
+    void testInheritedSubCommands() throws CommandException {
+        InheritedTestImplementation manager = new InheritedTestImplementation();
+
+        assertThat(manager.getSubCommands()).extracting(SubCommand::getName)
+                .containsExactlyInAnyOrder("base", "overridden", "interface", "own");
+
+        CommandContext context = new CommandContext(null, null, new String[]{"overridden"});
+        manager.execute(context.getSender(), context.getArgs(), context);
+        assertThat(manager.calls).containsExactly("overriding");
+    }
+
+    @Test
+    void testSubCommandMethodsSharedBetweenInstances() {
+        InheritedTestImplementation manager1 = new InheritedTestImplementation();
+        InheritedTestImplementation manager2 = new InheritedTestImplementation();
+
+        assertThat(manager1.getSubCommandByName("base")).isNotSameAs(manager2.getSubCommandByName("base"));
+        assertThat(SubCommandMethodsCache.getSubCommandMethods(InheritedTestImplementation.class))
+                .isSameAs(SubCommandMethodsCache.getSubCommandMethods(InheritedTestImplementation.class));
+    }
+
     @Test
     void testOverwriteThrowsException() {
         TestImplementation manager = new TestImplementation();
@@ -63,6 +177,39 @@ class AnnotatedSubCommandManagerTest {
                 () -> manager.registerSubCommand(testOverrideCommand));
     }
 
+    @Test
+    void testAliasOverwriteThrowsException() {
+        TestImplementation manager = new TestImplementation();
+
+        AnnotatedSubCommand testOverrideCommand = new AnnotatedSubCommand() {
+
+            {
+                setName("new");
+                setAliases("Last");
+            }
+
+            @Override
+            public void execute(CommandSender sender, String[] args, SubCommandContext context) {}
+
+        };
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(
+                () -> manager.registerSubCommand(testOverrideCommand));
+        assertThat(manager.getSubCommandByName("new")).isNull();
+    }
+
+
+    private void execute(AsyncTestImplementation manager, String... args) throws CommandException {
+        CommandSender sender = TestCommandSender.create(new ArrayList<>());
+        CommandContext context = new CommandContext(sender, null, args);
+        manager.execute(context.getSender(), context.getArgs(), context);
+    }
+
+    private List<String> tabComplete(TestImplementation manager, String... args) {
+        CommandContext context = new CommandContext(null, null, args);
+        return manager.tabComplete(context.getSender(), context.getArgs(), context);
+    }
+
 
     private static class TestImplementation extends AnnotatedSubCommandManager {
 
@@ -81,10 +228,16 @@ class AnnotatedSubCommandManagerTest {
                     bArg0 = args[0];
                 }
 
+                @Override
+                public List<String> tabComplete(CommandSender sender, String[] args, SubCommandContext context) {
+                    return Collections.singletonList("testCompletion");
+                }
+
             });
         }
 
         @Name("z")
+        @Aliases({"last", "final"})
         @DisplayPriority(1)
         public void z(String[] args) {
             zArg0 = args[0];
@@ -101,4 +254,78 @@ class AnnotatedSubCommandManagerTest {
 
     }
 
+
+    private static class AsyncTestImplementation extends AnnotatedSubCommandManager {
+
+        private final List<String> errorMessages = new ArrayList<>();
+        private volatile String asyncArg0;
+        private volatile int asyncNumber;
+        private int limitMessagesCount;
+
+        @Name("async")
+        @Async
+        public void async(String[] args) {
+            asyncArg0 = args[0];
+        }
+
+        @Name("number")
+        @Async
+        public void number(int number) {
+            asyncNumber = number;
+        }
+
+        @Name("fail")
+        @Async
+        public void fail() throws CommandException {
+            throw new CommandException("testError");
+        }
+
+        @Override
+        protected void sendExecutionErrorMessage(CommandContext context, String errorMessage) {
+            errorMessages.add(errorMessage);
+        }
+
+        @Override
+        protected void sendAsyncExecutionsLimitMessage(SubCommandContext context) {
+            limitMessagesCount++;
+        }
+
+    }
+
+
+    private interface TestInterface {
+
+        @Name("interface")
+        default void interfaceMethod() {}
+
+    }
+
+
+    private static class BaseTestImplementation extends AnnotatedSubCommandManager {
+
+        protected final List<String> calls = new ArrayList<>();
+
+        @Name("base")
+        public void base() {}
+
+        @Name("overridden")
+        public void overridden() {
+            calls.add("overridden");
+        }
+
+    }
+
+
+    private static class InheritedTestImplementation extends BaseTestImplementation implements TestInterface {
+
+        @Override
+        public void overridden() {
+            calls.add("overriding");
+        }
+
+        @Name("own")
+        public void own() {}
+
+    }
+
 }
@@ -7,9 +7,11 @@ package me.filoghost.fcommons.config;
 
 import me.filoghost.fcommons.config.exception.ConfigValueException;
 import me.filoghost.fcommons.config.exception.MissingConfigValueException;
+import me.filoghost.fcommons.config.types.ConfigListView;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -87,4 +89,75 @@ class ConfigSectionTest {
         assertThat(section.getConfigSection("s1.s2")).isNotNull();
     }
 
+    @Test
+    void testStringListViewSkipsInvalidElements() {
+        ConfigSection section = new ConfigSection();
+        section.set("list", ConfigType.LIST, Arrays.asList(
+                ConfigValue.of(ConfigType.STRING, "a"),
+                ConfigValue.NULL,
+                ConfigValue.of(ConfigType.SECTION, new ConfigSection()),
+                ConfigValue.of(ConfigType.INTEGER, 1)));
+
+        ConfigListView<String> view = section.getStringListView("list");
+
+        assertThat(view).containsExactly("a", "1");
+        assertThat(view.size()).isEqualTo(2);
+        assertThat(view.get(1)).isEqualTo("1");
+        assertThat(view).isEqualTo(section.getStringList("list"));
+    }
+
+    @Test
+    void testListViewIsReadOnly() {
+        ConfigSection section = new ConfigSection();
+        section.setStringList("list", Arrays.asList("a", "b"));
+
+        ConfigListView<String> view = section.getStringListView("list");
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> view.add("c"));
+        assertThat(view.toMutableList()).containsExactly("a", "b");
+    }
+
+    @Test
+    void testListViewSnapshotIsCached() {
+        ConfigSection section = new ConfigSection();
+        section.setStringList("list", Arrays.asList("a", "b"));
+
+        ConfigListView<String> view = section.getStringListView("list");
+
+        assertThat(view.getSnapshot()).isSameAs(view.getSnapshot());
+        List<String> snapshot = view.getSnapshot();
+        view.invalidate();
+        assertThat(view.getSnapshot()).isNotSameAs(snapshot).isEqualTo(snapshot);
+    }
+
+    @Test
+    void testListViewAfterSet() {
+        ConfigSection section = new ConfigSection();
+        section.setStringList("inner.list", Arrays.asList("a", "b"));
+
+        ConfigListView<String> view = section.getStringListView("inner.list");
+        section.setStringList("inner.list", Arrays.asList("c"));
+
+        assertThat(section.getStringListView("inner.list")).containsExactly("c");
+        assertThat(view).containsExactly("a", "b");
+    }
+
+    @Test
+    void testListViewIndexesWithSkippedElements() {
+        ConfigSection section = new ConfigSection();
+        section.set("list", ConfigType.LIST, Arrays.asList(
+                ConfigValue.of(ConfigType.SECTION, new ConfigSection()),
+                ConfigValue.of(ConfigType.STRING, "a"),
+                ConfigValue.of(ConfigType.SECTION, new ConfigSection()),
+                ConfigValue.of(ConfigType.STRING, "b")));
+
+        ConfigListView<String> view = section.getStringListView("list");
+
+        assertThat(view.size()).isEqualTo(2);
+        assertThat(view.isEmpty()).isFalse();
+        assertThat(view.get(0)).isEqualTo("a");
+        assertThat(view.get(1)).isEqualTo("b");
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> view.get(2));
+    }
+
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.config.mapped;
+
+import me.filoghost.fcommons.config.ConfigPath;
+import me.filoghost.fcommons.config.exception.ConfigException;
+import me.filoghost.fcommons.config.exception.ConfigValidateException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LoadCollectingErrorsTest {
+
+    @Test
+    void testAllErrorsCollected(@TempDir java.nio.file.Path tempDir) throws ConfigException, IOException {
+        MappedConfigLoader<TestConfig> configLoader = MappedTestCommons.newExistingConfig(tempDir, TestConfig.class,
+                "elements:",
+                "- value: 1",
+                "- value: -1",
+                "- value: abc",
+                "- value: 4",
+                "section:",
+                "  value: xyz"
+        );
+
+        BindingResult<TestConfig> result = configLoader.loadCollectingErrors();
+
+        assertThat(result.hasErrors()).isTrue();
+        assertThat(result.getErrors()).extracting(BindingError::getConfigPath).containsExactly(
+                ConfigPath.literal("elements", "1"),
+                ConfigPath.literal("elements", "2", "value"),
+                ConfigPath.literal("section", "value"),
+                ConfigPath.literal("string")
+        );
+        assertThat(result.getErrors().get(0).getException()).isInstanceOf(ConfigValidateException.class);
+    }
+
+    @Test
+    void testPartiallyBoundObject(@TempDir java.nio.file.Path tempDir) throws ConfigException, IOException {
+        MappedConfigLoader<TestConfig> configLoader = MappedTestCommons.newExistingConfig(tempDir, TestConfig.class,
+                "elements:",
+                "- value: 1",
+                "- value: -1",
+                "- value: 3",
+                "integer: 5"
+        );
+
+        TestConfig config = configLoader.loadCollectingErrors().getMappedObject();
+
+        assertThat(config.elements).extracting(element -> element.value).containsExactly(1, 3);
+        assertThat(config.integer).isEqualTo(5);
+        assertThat(config.string).isEqualTo("default");
+        assertThat(config.validated).isFalse();
+    }
+
+    @Test
+    void testNoErrors(@TempDir java.nio.file.Path tempDir) throws ConfigException, IOException {
+        MappedConfigLoader<TestConfig> configLoader = MappedTestCommons.newExistingConfig(tempDir, TestConfig.class,
+                "string: abc"
+        );
+
+        BindingResult<TestConfig> result = configLoader.loadCollectingErrors();
+
+        assertThat(result.hasErrors()).isFalse();
+        assertThat(result.getMappedObject().validated).isTrue();
+    }
+
+
+    private static class TestConfig implements MappedConfig {
+
+        private List<TestSection> elements = new ArrayList<>();
+        private TestSection section;
+        private int integer;
+        @Required
+        private String string = "default";
+        private transient boolean validated;
+
+        @Override
+        public void afterLoad() {
+            validated = true;
+        }
+
+    }
+
+
+    private static class TestSection implements MappedConfigSection {
+
+        @Required
+        private int value;
+
+        @Override
+        public void afterLoad() throws ConfigValidateException {
+            if (value < 0) {
+                throw new ConfigValidateException("value cannot be negative");
+            }
+        }
+
+    }
+
+}
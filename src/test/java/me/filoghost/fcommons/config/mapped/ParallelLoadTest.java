@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.config.mapped;
+
+import me.filoghost.fcommons.config.exception.ConfigException;
+import me.filoghost.fcommons.config.exception.ConfigLoadException;
+import me.filoghost.fcommons.config.exception.ConfigValidateException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ParallelLoadTest {
+
+    private static final int LIST_SIZE = 1000;
+
+    @Test
+    void testListOrderIsPreserved(@TempDir java.nio.file.Path tempDir) throws ConfigException, IOException {
+        MappedConfigLoader<ConfigWithList> configLoader = MappedTestCommons.newExistingConfig(tempDir, ConfigWithList.class,
+                createConfigLines(-1, -1));
+
+        ConfigWithList config = configLoader.load();
+
+        assertThat(config.elements).hasSize(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            assertThat(config.elements.get(i).value).isEqualTo(i);
+            assertThat(config.elements.get(i).loaded).isTrue();
+        }
+        assertThat(config.first.value).isEqualTo(1);
+        assertThat(config.second.value).isEqualTo(2);
+    }
+
+    @Test
+    void testFirstErrorIsReported(@TempDir java.nio.file.Path tempDir) throws IOException {
+        MappedConfigLoader<ConfigWithList> configLoader = MappedTestCommons.newExistingConfig(tempDir, ConfigWithList.class,
+                createConfigLines(100, 900));
+
+        for (int i = 0; i < 10; i++) {
+            assertThatExceptionOfType(ConfigValidateException.class).isThrownBy(() -> {
+                configLoader.load();
+            }).withMessage("negative value: -100");
+        }
+    }
+
+    @Test
+    void testSiblingErrorInDeclarationOrder(@TempDir java.nio.file.Path tempDir) throws IOException {
+        MappedConfigLoader<ConfigWithList> configLoader = MappedTestCommons.newExistingConfig(tempDir, ConfigWithList.class,
+                "first:",
+                "  value: -1",
+                "second:",
+                "  value: -2"
+        );
+
+        assertThatExceptionOfType(ConfigLoadException.class).isThrownBy(() -> {
+            configLoader.load();
+        }).withMessage("negative value: -1");
+    }
+
+    private static String[] createConfigLines(int firstInvalidIndex, int secondInvalidIndex) {
+        List<String> lines = new ArrayList<>();
+        lines.add("elements:");
+        for (int i = 0; i < LIST_SIZE; i++) {
+            if (i == firstInvalidIndex || i == secondInvalidIndex) {
+                lines.add("- value: -" + i);
+            } else {
+                lines.add("- value: " + i);
+            }
+        }
+        return lines.toArray(new String[0]);
+    }
+
+
+    private static class ConfigWithList implements MappedConfig {
+
+        private List<ParallelSection> elements;
+        private ParallelSection first = new ParallelSection(1);
+        private ParallelSection second = new ParallelSection(2);
+
+    }
+
+
+    @ParallelLoad(minListSize = 10)
+    private static class ParallelSection implements MappedConfigSection {
+
+        private int value;
+        private transient boolean loaded;
+
+        private ParallelSection() {}
+
+        private ParallelSection(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public void afterLoad() throws ConfigValidateException {
+            if (value < 0) {
+                throw new ConfigValidateException("negative value: " + value);
+            }
+            loaded = true;
+        }
+
+    }
+
+}
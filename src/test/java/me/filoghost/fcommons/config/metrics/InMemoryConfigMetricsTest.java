@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.config.metrics;
+
+import me.filoghost.fcommons.config.BaseConfigManager;
+import me.filoghost.fcommons.config.exception.ConfigException;
+import me.filoghost.fcommons.config.mapped.MappedConfig;
+import me.filoghost.fcommons.config.mapped.MappedConfigLoader;
+import me.filoghost.fcommons.config.metrics.InMemoryConfigMetrics.FileMetrics;
+import me.filoghost.fcommons.metrics.Histogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InMemoryConfigMetricsTest {
+
+    @Test
+    void testLoadAndSaveRecorded(@TempDir Path tempDir) throws ConfigException, IOException {
+        Path file = tempDir.resolve("config.yml");
+        Files.write(file, Arrays.asList("value: 5"));
+
+        InMemoryConfigMetrics metrics = new InMemoryConfigMetrics();
+        BaseConfigManager configManager = new BaseConfigManager(tempDir);
+        configManager.setMetricsListener(metrics);
+        MappedConfigLoader<TestConfig> configLoader = configManager.getMappedConfigLoader(file, TestConfig.class);
+
+        TestConfig config = configLoader.load();
+        configLoader.save(config);
+
+        FileMetrics fileMetrics = metrics.getFileMetrics(file);
+        assertThat(fileMetrics).isNotNull();
+        assertThat(fileMetrics.getReadNanos().getCount()).isEqualTo(1);
+        assertThat(fileMetrics.getParseNanos().getCount()).isEqualTo(1);
+        assertThat(fileMetrics.getBindNanos().getCount()).isEqualTo(1);
+        assertThat(fileMetrics.getWriteNanos().getCount()).isEqualTo(1);
+        assertThat(fileMetrics.getLoadedBytes().getMax()).isEqualTo(Files.size(file));
+        assertThat(fileMetrics.getSavedBytes().getMax()).isEqualTo(Files.size(file));
+    }
+
+    @Test
+    void testNoOpListener(@TempDir Path tempDir) throws ConfigException, IOException {
+        Path file = tempDir.resolve("config.yml");
+        Files.write(file, Arrays.asList("value: 5"));
+
+        MappedConfigLoader<TestConfig> configLoader = new BaseConfigManager(tempDir)
+                .getMappedConfigLoader(file, TestConfig.class);
+
+        assertThat(configLoader.load().value).isEqualTo(5);
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-1); // Ignored
+
+        assertThat(histogram.getCount()).isEqualTo(100);
+        assertThat(histogram.getMax()).isEqualTo(100);
+        assertThat(histogram.getMean()).isEqualTo(50.5);
+        assertThat(histogram.getPercentile(50)).isEqualTo(63);
+        assertThat(histogram.getPercentile(100)).isEqualTo(100);
+    }
+
+
+    private static class TestConfig implements MappedConfig {
+
+        private int value;
+
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.ping;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncMinecraftServerPingerTest {
+
+    private static final String RESPONSE_JSON = "{\"description\":\"A server\",\"players\":{\"online\":3,\"max\":20}}";
+
+    @Test
+    void testPing() throws Exception {
+        try (TestStatusServer server = TestStatusServer.start(RESPONSE_JSON);
+                AsyncMinecraftServerPinger pinger = new AsyncMinecraftServerPinger()) {
+            PingResponse response = pinger.ping(server.getHost(), server.getPort(), 5000).get(5, TimeUnit.SECONDS);
+
+            assertThat(response.getMotd()).isEqualTo("A server");
+            assertThat(response.getOnlinePlayers()).isEqualTo(3);
+            assertThat(response.getMaxPlayers()).isEqualTo(20);
+        }
+    }
+
+    @Test
+    void testManyConcurrentPings() throws Exception {
+        try (TestStatusServer server = TestStatusServer.start(RESPONSE_JSON);
+                AsyncMinecraftServerPinger pinger = new AsyncMinecraftServerPinger()) {
+            List<CompletableFuture<PingResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                futures.add(pinger.ping(server.getHost(), server.getPort(), 5000));
+            }
+
+            for (CompletableFuture<PingResponse> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).getOnlinePlayers()).isEqualTo(3);
+            }
+            assertThat(server.getConnectionsCount()).isEqualTo(50);
+        }
+    }
+
+    @Test
+    void testLatency() throws Exception {
+        try (TestStatusServer server = TestStatusServer.start(RESPONSE_JSON);
+                AsyncMinecraftServerPinger pinger = new AsyncMinecraftServerPinger()) {
+            pinger.setProtocolVersion(765);
+            pinger.setMeasureLatency(true);
+            PingResponse response = pinger.ping(server.getHost(), server.getPort(), 5000).get(5, TimeUnit.SECONDS);
+
+            assertThat(response.getMotd()).isEqualTo("A server");
+            assertThat(response.getLatency()).isNotNegative();
+            assertThat(server.getLastProtocolVersion()).isEqualTo(765);
+        }
+    }
+
+    @Test
+    void testTimeout() throws IOException {
+        try (TestStatusServer server = TestStatusServer.startUnresponsive();
+                AsyncMinecraftServerPinger pinger = new AsyncMinecraftServerPinger()) {
+            CompletableFuture<PingResponse> future = pinger.ping(server.getHost(), server.getPort(), 200);
+
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(SocketTimeoutException.class);
+        }
+    }
+
+    @Test
+    void testResolutionDoesNotBlock() throws Exception {
+        CountDownLatch resolutionLatch = new CountDownLatch(1);
+        AddressResolver blockingResolver = new AddressResolver(1, TimeUnit.MINUTES) {
+            @Override
+            public InetSocketAddress resolve(String serverAddress, int serverPort) throws UnknownHostException {
+                try {
+                    resolutionLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new UnknownHostException(serverAddress);
+            }
+        };
+        PingMetrics metrics = new PingMetrics();
+
+        try (AsyncMinecraftServerPinger pinger = new AsyncMinecraftServerPinger(blockingResolver, metrics)) {
+            CompletableFuture<PingResponse> future = pinger.ping("unknown.invalid", 25565, 5000);
+            assertThat(future).isNotDone();
+
+            resolutionLatch.countDown();
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(UnknownHostException.class);
+            assertThat(metrics.getTargetMetrics("unknown.invalid", 25565).getFailures()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testClosed() throws IOException {
+        AsyncMinecraftServerPinger pinger = new AsyncMinecraftServerPinger();
+        pinger.close();
+
+        assertThat(pinger.ping("localhost", 25565, 1000)).isCompletedExceptionally();
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.ping;
+
+import me.filoghost.fcommons.ping.PingMetrics.TargetMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MinecraftServerPingerTest {
+
+    private static final String RESPONSE_JSON = "{\"description\":\"A server\",\"players\":{\"online\":3,\"max\":20}}";
+
+    @Test
+    void testPingRecordsMetrics() throws Exception {
+        try (TestStatusServer server = TestStatusServer.start(RESPONSE_JSON)) {
+            PingMetrics metrics = new PingMetrics();
+            PingResponse response = ping(server, 5000, metrics);
+
+            assertThat(response.getMotd()).isEqualTo("A server");
+            TargetMetrics targetMetrics = metrics.getTargetMetrics(server.getHost(), server.getPort());
+            assertThat(targetMetrics).isNotNull();
+            assertThat(targetMetrics.getConnectNanos().getCount()).isEqualTo(1);
+            assertThat(targetMetrics.getReadNanos().getCount()).isEqualTo(1);
+            assertThat(targetMetrics.getFailures()).isZero();
+        }
+    }
+
+    @Test
+    void testLatency() throws Exception {
+        try (TestStatusServer server = TestStatusServer.start(RESPONSE_JSON)) {
+            PingResponse response = MinecraftServerPinger.ping(server.getHost(), server.getPort(), 5000, 47, true);
+
+            assertThat(response.getLatency()).isNotNegative();
+            assertThat(server.getLastProtocolVersion()).isEqualTo(47);
+        }
+    }
+
+    @Test
+    void testReadTimeout() throws Exception {
+        try (TestStatusServer server = TestStatusServer.startUnresponsive()) {
+            PingMetrics metrics = new PingMetrics();
+            assertThatThrownBy(() -> ping(server, 200, metrics))
+                    .isInstanceOf(SocketTimeoutException.class);
+
+            TargetMetrics targetMetrics = metrics.getTargetMetrics(server.getHost(), server.getPort());
+            assertThat(targetMetrics.getFailures()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testInvalidResponseRecordsFailure() throws Exception {
+        try (TestStatusServer server = TestStatusServer.start("not json")) {
+            PingMetrics metrics = new PingMetrics();
+            assertThatThrownBy(() -> ping(server, 5000, metrics))
+                    .isInstanceOf(PingParseException.class);
+
+            TargetMetrics targetMetrics = metrics.getTargetMetrics(server.getHost(), server.getPort());
+            assertThat(targetMetrics.getFailures()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testAddressResolverCache() throws Exception {
+        AddressResolver addressResolver = new AddressResolver(1, TimeUnit.MINUTES);
+
+        InetSocketAddress first = addressResolver.resolve("127.0.0.1", 25565);
+        InetSocketAddress second = addressResolver.resolve("127.0.0.1", 25565);
+        addressResolver.invalidate("127.0.0.1", 25565);
+        InetSocketAddress third = addressResolver.resolve("127.0.0.1", 25565);
+
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first).isEqualTo(first);
+    }
+
+    private static PingResponse ping(TestStatusServer server, int timeout, PingMetrics metrics) throws Exception {
+        return MinecraftServerPinger.ping(
+                server.getHost(),
+                server.getPort(),
+                timeout,
+                MinecraftServerPinger.DEFAULT_PROTOCOL_VERSION,
+                false,
+                metrics);
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.ping;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PacketCodecTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 127, 128, 255, 25565, 2097151, 2097152, Integer.MAX_VALUE, -1, Integer.MIN_VALUE})
+    void testVarIntRoundTrip(int value) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(5);
+        PacketCodec.writeVarInt(buffer, value);
+
+        assertThat(buffer.position()).isEqualTo(PacketCodec.getVarIntSize(value));
+        buffer.flip();
+        assertThat(PacketCodec.readVarInt(buffer)).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 127, 128, Integer.MAX_VALUE, Long.MAX_VALUE, -1, Long.MIN_VALUE})
+    void testVarLongRoundTrip(long value) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(10);
+        PacketCodec.writeVarLong(buffer, value);
+
+        assertThat(buffer.position()).isEqualTo(PacketCodec.getVarLongSize(value));
+        buffer.flip();
+        assertThat(PacketCodec.readVarLong(buffer)).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "localhost", "èà", "😀"})
+    void testStringRoundTrip(String value) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(PacketCodec.getStringSize(value));
+        PacketCodec.writeString(buffer, value);
+
+        assertThat(buffer.hasRemaining()).isFalse();
+        buffer.flip();
+        assertThat(PacketCodec.readString(buffer)).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\uD83D", "a\uDE00b", "\uDE00\uD83D", "\uD83D\uD83D\uDE00"})
+    void testStringSizeWithUnpairedSurrogates(String value) {
+        ByteBuffer buffer = ByteBuffer.allocate(PacketCodec.getStringSize(value));
+        PacketCodec.writeString(buffer, value);
+
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 200, 8191, 8192, 8193, 40000})
+    void testPacketBufferGrowth(int jsonLength) throws Exception {
+        ByteBuffer packet = ByteBuffer.allocate(jsonLength + 10);
+        PacketCodec.writeVarInt(packet, jsonLength);
+        for (int i = 0; i < jsonLength; i++) {
+            packet.put((byte) 'a');
+        }
+        packet.flip();
+
+        PacketBuffer packetBuffer = PacketBuffer.acquire();
+        try {
+            ByteBuffer received = null;
+            while (received == null) {
+                ByteBuffer writableBuffer = packetBuffer.getWritableBuffer();
+                int chunkLength = Math.min(Math.min(writableBuffer.remaining(), packet.remaining()), 1000);
+                for (int i = 0; i < chunkLength; i++) {
+                    writableBuffer.put(packet.get());
+                }
+                received = packetBuffer.getPacket();
+            }
+
+            assertThat(received.remaining()).isEqualTo(jsonLength);
+        } finally {
+            packetBuffer.release();
+        }
+    }
+
+}
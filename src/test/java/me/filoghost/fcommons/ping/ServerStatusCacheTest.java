@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.ping;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ServerStatusCacheTest {
+
+    private ScheduledExecutorService scheduler;
+    private FakePinger pinger;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        pinger = new FakePinger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentRequestsCoalesced() throws Exception {
+        try (ServerStatusCache cache = new ServerStatusCache(pinger, scheduler, 1, TimeUnit.MINUTES, 1000)) {
+            CompletableFuture<PingResponse> first = cache.getStatus("localhost", 25565);
+            CompletableFuture<PingResponse> second = cache.getStatus("LOCALHOST", 25565);
+
+            assertThat(first).isSameAs(second);
+            assertThat(pinger.pings).hasSize(1);
+
+            pinger.pings.get(0).complete(response("first"));
+
+            assertThat(first.get().getMotd()).isEqualTo("first");
+            assertThat(cache.getCachedStatus("localhost", 25565).getMotd()).isEqualTo("first");
+            assertThat(pinger.pings).hasSize(1);
+        }
+    }
+
+    @Test
+    void testStaleWhileRevalidate() throws Exception {
+        try (ServerStatusCache cache = new ServerStatusCache(pinger, scheduler, 50, TimeUnit.MILLISECONDS, 1000)) {
+            cache.getStatus("localhost", 25565);
+            pinger.pings.get(0).complete(response("first"));
+
+            Thread.sleep(100);
+
+            // The refresh never completes, but the stale response is still returned
+            CompletableFuture<PingResponse> status = cache.getStatus("localhost", 25565);
+            assertThat(status).isCompleted();
+            assertThat(status.get().getMotd()).isEqualTo("first");
+            assertThat(pinger.pings).hasSize(2);
+        }
+    }
+
+    @Test
+    void testFailedPing() {
+        try (ServerStatusCache cache = new ServerStatusCache(pinger, scheduler, 1, TimeUnit.MINUTES, 1000)) {
+            CompletableFuture<PingResponse> status = cache.getStatus("localhost", 25565);
+            pinger.pings.get(0).completeExceptionally(new IOException("unreachable"));
+
+            assertThat(status).isCompletedExceptionally();
+            assertThat(cache.getCachedStatus("localhost", 25565)).isNull();
+            assertThat(pinger.pings).hasSize(1);
+        }
+    }
+
+    private static PingResponse response(String motd) throws PingParseException {
+        return PingResponse.fromJson("{\"description\":\"" + motd + "\"}");
+    }
+
+
+    private static class FakePinger implements ServerPinger {
+
+        private final List<CompletableFuture<PingResponse>> pings = new CopyOnWriteArrayList<>();
+
+        @Override
+        public CompletableFuture<PingResponse> ping(String serverAddress, int serverPort, int timeout) {
+            CompletableFuture<PingResponse> ping = new CompletableFuture<>();
+            pings.add(ping);
+            return ping;
+        }
+
+    }
+
+}
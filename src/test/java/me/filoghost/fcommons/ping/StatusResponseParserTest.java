@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.ping;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StatusResponseParserTest {
+
+    @Test
+    void testStringDescription() throws PingParseException {
+        PingResponse response = PingResponse.fromJson(
+                "{\"favicon\":\"data:image/png;base64,AAAA\",\"description\":\"Hello \\\"world\\\" \\u00e8\","
+                + "\"players\":{\"max\":20,\"online\":3,\"sample\":[{\"name\":\"a\",\"id\":\"b\"}]}}");
+
+        assertThat(response.getMotd()).isEqualTo("Hello \"world\" è");
+        assertThat(response.getOnlinePlayers()).isEqualTo(3);
+        assertThat(response.getMaxPlayers()).isEqualTo(20);
+    }
+
+    @Test
+    void testComponentDescription() throws PingParseException {
+        // Extra components before the parent text and color
+        PingResponse response = PingResponse.fromJson(
+                "{\"description\":{\"extra\":[{\"text\":\"b\",\"color\":\"red\",\"bold\":true},\"c\"],\"text\":\"a\",\"color\":\"gold\"}}");
+
+        assertThat(response.getMotd()).isEqualTo("§6a§c§lb§6c");
+    }
+
+    @Test
+    void testDefaultColor() throws PingParseException {
+        PingResponse response = PingResponse.fromJson("{\"description\":{\"text\":\"a\"}}");
+
+        assertThat(response.getMotd()).isEqualTo("§fa");
+    }
+
+    @Test
+    void testVersionAndSamplePlayers() throws PingParseException {
+        PingResponse response = PingResponse.fromJson(
+                "{\"version\":{\"name\":\"Paper 1.20.4\",\"protocol\":765},\"description\":\"\","
+                + "\"players\":{\"sample\":[{\"name\":\"Notch\",\"id\":\"069a79f4-44e9-4726-a5be-fca90e38aaf5\"},"
+                + "{\"name\":\"Line of text\",\"id\":\"invalid\"}]}}");
+
+        assertThat(response.getVersionName()).isEqualTo("Paper 1.20.4");
+        assertThat(response.getVersionProtocol()).isEqualTo(765);
+        assertThat(response.getSamplePlayers()).extracting(PingResponse.SamplePlayer::getName)
+                .containsExactly("Notch", "Line of text");
+        assertThat(response.getSamplePlayers().get(0).getUniqueId())
+                .isEqualTo(UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5"));
+        assertThat(response.getSamplePlayers().get(1).getUniqueId()).isNull();
+        assertThat(response.getLatency()).isEqualTo(-1);
+    }
+
+    @Test
+    void testNestedSkippedValues() throws PingParseException {
+        PingResponse response = PingResponse.fromJson(
+                "{\"other\":{\"a\":[1,{\"b\":\"}]\\\"\"}],\"c\":null},\"description\":\"ok\",\"players\":{\"online\":\"x\"}}");
+
+        assertThat(response.getMotd()).isEqualTo("ok");
+        assertThat(response.getOnlinePlayers()).isZero();
+    }
+
+    @Test
+    void testErrors() {
+        assertThatThrownBy(() -> PingResponse.fromJson("")).hasMessage("empty");
+        assertThatThrownBy(() -> PingResponse.fromJson("[1]")).hasMessage("wrong format");
+        assertThatThrownBy(() -> PingResponse.fromJson("{\"description\":\"x\"")).hasMessage("wrong format");
+        assertThatThrownBy(() -> PingResponse.fromJson("{\"players\":{}}")).hasMessage("description not found");
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) filoghost
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package me.filoghost.fcommons.ping;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal local stand-in for a Minecraft server, answering status requests with a fixed JSON response.
+ */
+public class TestStatusServer implements Closeable {
+
+    private final ServerSocket serverSocket;
+    private final String responseJson;
+    private final boolean respond;
+    private final AtomicInteger connectionsCount;
+    private volatile int lastProtocolVersion;
+
+    private TestStatusServer(String responseJson, boolean respond) throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.responseJson = responseJson;
+        this.respond = respond;
+        this.connectionsCount = new AtomicInteger();
+
+        Thread acceptThread = new Thread(this::acceptConnections, "Test Status Server");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    public static TestStatusServer start(String responseJson) throws IOException {
+        return new TestStatusServer(responseJson, true);
+    }
+
+    public static TestStatusServer startUnresponsive() throws IOException {
+        return new TestStatusServer(null, false);
+    }
+
+    public String getHost() {
+        return serverSocket.getInetAddress().getHostAddress();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getConnectionsCount() {
+        return connectionsCount.get();
+    }
+
+    public int getLastProtocolVersion() {
+        return lastProtocolVersion;
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connectionsCount.incrementAndGet();
+                Thread connectionThread = new Thread(() -> handleConnection(socket), "Test Status Server Connection");
+                connectionThread.setDaemon(true);
+                connectionThread.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handleConnection(Socket socket) {
+        try (Socket s = socket) {
+            s.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(s.getInputStream());
+            DataOutputStream out = new DataOutputStream(s.getOutputStream());
+
+            DataInputStream handshake = new DataInputStream(new ByteArrayInputStream(readPacket(in)));
+            handshake.readByte(); // Packet ID
+            lastProtocolVersion = readVarInt(handshake);
+
+            while (true) {
+                byte[] packet = readPacket(in);
+                if (!respond) {
+                    continue;
+                }
+
+                if (packet[0] == 0x00) { // Status request
+                    ByteArrayOutputStream response = new ByteArrayOutputStream();
+                    DataOutputStream responseOut = new DataOutputStream(response);
+                    responseOut.writeByte(0x00);
+                    byte[] jsonBytes = responseJson.getBytes(StandardCharsets.UTF_8);
+                    writeVarInt(responseOut, jsonBytes.length);
+                    responseOut.write(jsonBytes);
+                    writePacket(out, response.toByteArray());
+                } else if (packet[0] == 0x01) { // Ping, echoed back as pong
+                    writePacket(out, packet);
+                }
+            }
+        } catch (IOException e) {
+            // Connection closed
+        }
+    }
+
+    private static byte[] readPacket(DataInputStream in) throws IOException {
+        byte[] packet = new byte[readVarInt(in)];
+        in.readFully(packet);
+        return packet;
+    }
+
+    private static void writePacket(DataOutputStream out, byte[] packet) throws IOException {
+        writeVarInt(out, packet.length);
+        out.write(packet);
+        out.flush();
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int i = 0; i < 5; i++) {
+            int b = in.readByte();
+            value |= (b & 0x7F) << (i * 7);
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("VarInt too big");
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & 0xFFFFFF80) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+}